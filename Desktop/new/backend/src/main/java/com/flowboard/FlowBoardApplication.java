@@ -2,8 +2,10 @@ package com.flowboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class FlowBoardApplication {
     public static void main(String[] args) {
         SpringApplication.run(FlowBoardApplication.class, args);
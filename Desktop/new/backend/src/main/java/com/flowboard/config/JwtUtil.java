@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.function.Function;
 
 @Component
+@ImportRuntimeHints(JwtRuntimeHints.class)
 public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
@@ -0,0 +1,30 @@
+package com.flowboard.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int idleEvictionSeconds = 600;
+    private int maxBuckets = 100_000;
+    private Route defaultRoute = new Route("default", "/api/**", 300, 60);
+    // Checked in order; the first matching pattern wins, otherwise defaultRoute applies
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private String name;
+        private String pattern;
+        private int requestsPerMinute;
+        private int burst;
+    }
+}
@@ -0,0 +1,72 @@
+package com.flowboard.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs how long the instance took to become ready and to serve its first request, tagged with
+ * the startup mode (jvm, aot, aot+cds, native) so the build variants can be compared directly.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimingReporter implements Filter {
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    private volatile long readyAtNanos;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        readyAtNanos = System.nanoTime();
+        log.info("Startup [{}]: context ready in {} ms, process uptime {} ms",
+                mode(), event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1, uptimeMillis());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (firstRequestSeen.get() || !firstRequestSeen.compareAndSet(false, true)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long now = System.nanoTime();
+            log.info("Startup [{}]: first request served in {} ms, {} ms after ready, process uptime {} ms",
+                    mode(), (now - start) / 1_000_000,
+                    readyAtNanos > 0 ? (now - readyAtNanos) / 1_000_000 : -1, uptimeMillis());
+        }
+    }
+
+    private static String mode() {
+        if (NativeDetector.inNativeImage()) {
+            return "native";
+        }
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        if (AotDetector.useGeneratedArtifacts()) {
+            return cds ? "aot+cds" : "aot";
+        }
+        return cds ? "jvm+cds" : "jvm";
+    }
+
+    private static long uptimeMillis() {
+        return NativeDetector.inNativeImage() ? -1 : ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
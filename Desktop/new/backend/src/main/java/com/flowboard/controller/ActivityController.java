@@ -0,0 +1,42 @@
+package com.flowboard.controller;
+
+import com.flowboard.dto.ApiResponse;
+import com.flowboard.model.ActivityLog;
+import com.flowboard.repository.ActivityLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/activity")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ActivityController {
+    private static final int MAX_LIMIT = 500;
+
+    private final ActivityLogRepository activityLogRepository;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ActivityLog>>> getActivity(
+            @RequestParam(required = false) String aggregateType,
+            @RequestParam(required = false) UUID aggregateId,
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(defaultValue = "50") int limit) {
+        Pageable page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        List<ActivityLog> entries;
+        if (aggregateType != null && aggregateId != null) {
+            entries = activityLogRepository.findByAggregateTypeAndAggregateIdOrderByOccurredAtDesc(
+                    aggregateType.toUpperCase(), aggregateId, page);
+        } else if (actorId != null) {
+            entries = activityLogRepository.findByActorIdOrderByOccurredAtDesc(actorId, page);
+        } else {
+            entries = activityLogRepository.findAllByOrderByOccurredAtDesc(page);
+        }
+        return ResponseEntity.ok(ApiResponse.success(entries));
+    }
+}
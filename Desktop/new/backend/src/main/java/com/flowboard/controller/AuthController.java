@@ -7,6 +7,7 @@ import com.flowboard.dto.RegisterRequest;
 import com.flowboard.model.User;
 import com.flowboard.repository.UserRepository;
 import com.flowboard.service.AuthService;
+import com.flowboard.service.CacheInvalidationBus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +25,7 @@ public class AuthController {
     private final AuthService authService;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<Map<String, Object>>> register(@Valid @RequestBody RegisterRequest request) {
@@ -70,6 +72,7 @@ public class AuthController {
         if (userData.getSoundEnabled() != null) user.setSoundEnabled(userData.getSoundEnabled());
         
         user = userRepository.save(user);
+        cacheInvalidationBus.publish(CacheInvalidationBus.USER, user.getId());
         return ResponseEntity.ok(ApiResponse.success(user));
     }
 }
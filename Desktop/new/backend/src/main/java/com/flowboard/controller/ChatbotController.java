@@ -32,11 +32,10 @@ public class ChatbotController {
             return ResponseEntity.badRequest().body(ApiResponse.error("Invalid user ID"));
         }
         
+        // Any client-supplied "context" is ignored; the server builds it from the user's own data
         String message = (String) request.get("message");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> context = (Map<String, Object>) request.getOrDefault("context", Map.of());
-        
-        String response = chatbotService.sendMessage(userId, message, context);
+
+        String response = chatbotService.sendMessage(userId, message);
         
         return ResponseEntity.ok(ApiResponse.success(Map.of("response", response)));
     }
@@ -0,0 +1,49 @@
+package com.flowboard.controller;
+
+import com.flowboard.dto.ApiResponse;
+import com.flowboard.service.BurndownService;
+import com.flowboard.service.TaskFlowService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ProjectAnalyticsController {
+    private final TaskFlowService taskFlowService;
+    private final BurndownService burndownService;
+
+    @GetMapping("/flow-metrics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFlowMetrics(
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "12") int weeks) {
+        return ResponseEntity.ok(ApiResponse.success(taskFlowService.getFlowMetrics(projectId, weeks)));
+    }
+
+    @GetMapping("/burndown")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getBurndown(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(burndownService.getSeries(projectId, from, to)));
+    }
+
+    @PostMapping("/burndown/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> backfillBurndown(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int rows = burndownService.backfill(projectId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("rows", rows)));
+    }
+}
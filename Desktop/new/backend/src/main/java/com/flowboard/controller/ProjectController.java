@@ -1,10 +1,15 @@
 package com.flowboard.controller;
 
 import com.flowboard.dto.ApiResponse;
+import com.flowboard.dto.LifecycleJob;
 import com.flowboard.model.Project;
 import com.flowboard.repository.ProjectRepository;
+import com.flowboard.service.IdempotencyService;
+import com.flowboard.service.ProjectLifecycleService;
+import com.flowboard.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +22,9 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class ProjectController {
     private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+    private final ProjectLifecycleService projectLifecycleService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<Project>>> getAllProjects(
@@ -40,30 +48,40 @@ public class ProjectController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/lifecycle-job")
+    public ResponseEntity<ApiResponse<LifecycleJob>> getLifecycleJob(@PathVariable UUID id) {
+        return projectLifecycleService.getJob(id)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping
-    public ResponseEntity<ApiResponse<Project>> createProject(@RequestBody Project project) {
-        Project saved = projectRepository.save(project);
-        return ResponseEntity.ok(ApiResponse.success(saved));
+    public ResponseEntity<ApiResponse<Project>> createProject(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody Project project) {
+        try {
+            Project saved = idempotencyService.execute(idempotencyKey, "POST /api/projects", project, Project.class,
+                    () -> projectService.create(project));
+            return ResponseEntity.ok(ApiResponse.success(saved));
+        } catch (IdempotencyService.IdempotencyKeyException e) {
+            return ResponseEntity.unprocessableEntity().body(ApiResponse.error(e.getMessage()));
+        } catch (IdempotencyService.RequestInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Project>> updateProject(
             @PathVariable UUID id,
             @RequestBody Project project) {
-        return projectRepository.findById(id)
-                .map(existing -> {
-                    if (project.getName() != null) existing.setName(project.getName());
-                    if (project.getDescription() != null) existing.setDescription(project.getDescription());
-                    if (project.getColor() != null) existing.setColor(project.getColor());
-                    if (project.getStatus() != null) existing.setStatus(project.getStatus());
-                    return ResponseEntity.ok(ApiResponse.success(projectRepository.save(existing)));
-                })
+        return projectService.update(id, project)
+                .map(saved -> ResponseEntity.ok(ApiResponse.success(saved)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable UUID id) {
-        projectRepository.deleteById(id);
+        projectService.delete(id);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 }
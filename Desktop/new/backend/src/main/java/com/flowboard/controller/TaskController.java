@@ -1,16 +1,45 @@
 package com.flowboard.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flowboard.dto.ApiResponse;
+import com.flowboard.dto.TaskImportResult;
+import com.flowboard.dto.TaskMoveRequest;
 import com.flowboard.model.Task;
+import com.flowboard.model.TaskStatusTransition;
 import com.flowboard.repository.TaskRepository;
+import com.flowboard.service.IdempotencyService;
+import com.flowboard.service.TaskExportService;
+import com.flowboard.service.TaskFlowService;
+import com.flowboard.service.TaskImportService;
+import com.flowboard.service.TaskPositionService;
+import com.flowboard.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -18,6 +47,15 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class TaskController {
     private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final TaskFlowService taskFlowService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.timeout-ms:1800000}")
+    private long exportTimeoutMillis;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<Task>>> getAllTasks(
@@ -25,11 +63,11 @@ public class TaskController {
         List<Task> tasks;
         if (orderBy != null && orderBy.startsWith("-")) {
             String field = orderBy.substring(1);
-            tasks = taskRepository.findAll(Sort.by(Sort.Direction.DESC, field));
+            tasks = taskRepository.findAllInLiveProjects(Sort.by(Sort.Direction.DESC, field));
         } else if (orderBy != null) {
-            tasks = taskRepository.findAll(Sort.by(Sort.Direction.ASC, orderBy));
+            tasks = taskRepository.findAllInLiveProjects(Sort.by(Sort.Direction.ASC, orderBy));
         } else {
-            tasks = taskRepository.findAll();
+            tasks = taskRepository.findAllInLiveProjects(Sort.unsorted());
         }
         return ResponseEntity.ok(ApiResponse.success(tasks));
     }
@@ -44,11 +82,11 @@ public class TaskController {
         List<Task> tasks;
         
         if (assigneeId != null) {
-            tasks = taskRepository.findByAssigneeId(assigneeId);
+            tasks = taskRepository.findByAssigneeIdInLiveProjects(assigneeId);
         } else if (projectId != null) {
             tasks = taskRepository.findByProjectId(projectId);
         } else {
-            tasks = taskRepository.findAll();
+            tasks = taskRepository.findAllInLiveProjects(Sort.unsorted());
         }
         
         if (status != null) {
@@ -62,9 +100,10 @@ public class TaskController {
             tasks = tasks.stream()
                     .sorted((a, b) -> {
                         try {
-                            Comparable<?> aVal = (Comparable<?>) a.getClass().getField(field).get(a);
-                            Comparable<?> bVal = (Comparable<?>) b.getClass().getField(field).get(b);
-                            return bVal.compareTo(aVal);
+                            @SuppressWarnings("unchecked")
+                            Comparable<Object> aVal = (Comparable<Object>) a.getClass().getField(field).get(a);
+                            Object bVal = b.getClass().getField(field).get(b);
+                            return -aVal.compareTo(bVal);
                         } catch (Exception e) {
                             return 0;
                         }
@@ -79,6 +118,105 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(tasks));
     }
 
+    @GetMapping("/board")
+    public ResponseEntity<ApiResponse<Map<Task.Status, List<Task>>>> getBoard(@RequestParam UUID projectId) {
+        Map<Task.Status, List<Task>> columns = new EnumMap<>(Task.Status.class);
+        for (Task.Status status : Task.Status.values()) {
+            columns.put(status, new ArrayList<>());
+        }
+        for (Task task : taskRepository.findBoard(projectId)) {
+            columns.get(task.getStatus()).add(task);
+        }
+        return ResponseEntity.ok(ApiResponse.success(columns));
+    }
+
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportTasks(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) Boolean gzip,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        TaskExportService.Format exportFormat = parseEnum(TaskExportService.Format.class, format);
+        if (exportFormat == null) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Unsupported export format: " + format));
+            return null;
+        }
+        boolean compress = gzip != null ? gzip : acceptEncoding != null && acceptEncoding.contains("gzip");
+        String fileName = "tasks." + (exportFormat == TaskExportService.Format.CSV ? "csv" : "ndjson");
+
+        if (!taskExportService.tryAcquireSlot()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Too many exports in progress, try again later"));
+            return null;
+        }
+        response.setContentType(exportFormat == TaskExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8).toString()
+                : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (compress) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // Only exports get the long timeout: each one holds a pooled connection and an open transaction.
+        // The slot is freed when the export stops writing, or on completion if it never got to start.
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncTask<Void> task = new WebAsyncTask<>(exportTimeoutMillis, () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                OutputStream out = response.getOutputStream();
+                OutputStream target = compress ? new GZIPOutputStream(out, 64 * 1024) : out;
+                BufferedOutputStream buffered = new BufferedOutputStream(target, 64 * 1024);
+                taskExportService.export(buffered, exportFormat, projectId, status, createdFrom, createdTo);
+                buffered.flush();
+                if (target instanceof GZIPOutputStream gzipStream) {
+                    gzipStream.finish();
+                }
+                return null;
+            } finally {
+                taskExportService.releaseSlot();
+            }
+        });
+        task.onCompletion(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                taskExportService.releaseSlot();
+            }
+        });
+        return task;
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<TaskImportResult>> importTasks(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+        TaskImportService.Format importFormat = format != null
+                ? parseEnum(TaskImportService.Format.class, format)
+                : name.endsWith(".ndjson") || name.endsWith(".jsonl")
+                        ? TaskImportService.Format.NDJSON
+                        : TaskImportService.Format.CSV;
+        if (importFormat == null) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Unsupported import format: " + format));
+        }
+        try (InputStream in = file.getInputStream()) {
+            TaskImportResult result = taskImportService.importTasks(in, importFormat);
+            return ResponseEntity.ok(ApiResponse.success(result,
+                    result.getImported() + " imported, " + result.getFailed() + " failed"));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Failed to read upload: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Task>> getTask(@PathVariable UUID id) {
         return taskRepository.findById(id)
@@ -86,35 +224,63 @@ public class TaskController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/transitions")
+    public ResponseEntity<ApiResponse<List<TaskStatusTransition>>> getTransitions(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponse.success(taskFlowService.getHistory(id)));
+    }
+
     @PostMapping
-    public ResponseEntity<ApiResponse<Task>> createTask(@RequestBody Task task) {
-        Task saved = taskRepository.save(task);
-        return ResponseEntity.ok(ApiResponse.success(saved));
+    public ResponseEntity<ApiResponse<Task>> createTask(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody Task task) {
+        try {
+            Task saved = idempotencyService.execute(idempotencyKey, "POST /api/tasks", task, Task.class,
+                    () -> taskService.create(task));
+            return ResponseEntity.ok(ApiResponse.success(saved));
+        } catch (IdempotencyService.IdempotencyKeyException | TaskService.ProjectArchivedException e) {
+            return ResponseEntity.unprocessableEntity().body(ApiResponse.error(e.getMessage()));
+        } catch (IdempotencyService.RequestInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Task>> updateTask(
             @PathVariable UUID id,
             @RequestBody Task task) {
-        return taskRepository.findById(id)
-                .map(existing -> {
-                    if (task.getTitle() != null) existing.setTitle(task.getTitle());
-                    if (task.getDescription() != null) existing.setDescription(task.getDescription());
-                    if (task.getStatus() != null) existing.setStatus(task.getStatus());
-                    if (task.getPriority() != null) existing.setPriority(task.getPriority());
-                    if (task.getAssigneeId() != null) existing.setAssigneeId(task.getAssigneeId());
-                    if (task.getProjectId() != null) existing.setProjectId(task.getProjectId());
-                    if (task.getDeadline() != null) existing.setDeadline(task.getDeadline());
-                    if (task.getEstimateHours() != null) existing.setEstimateHours(task.getEstimateHours());
-                    return ResponseEntity.ok(ApiResponse.success(taskRepository.save(existing)));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return taskService.update(id, task)
+                    .map(saved -> ResponseEntity.ok(ApiResponse.success(saved)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (TaskService.ProjectArchivedException e) {
+            return ResponseEntity.unprocessableEntity().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}/position")
+    public ResponseEntity<ApiResponse<Task>> moveTask(
+            @PathVariable UUID id,
+            @RequestBody TaskMoveRequest request) {
+        try {
+            return taskService.move(id, request.getStatus(), request.getAfterId(), request.getBeforeId())
+                    .map(saved -> ResponseEntity.ok(ApiResponse.success(saved)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (TaskPositionService.PositionConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteTask(@PathVariable UUID id) {
-        taskRepository.deleteById(id);
+        taskService.delete(id);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
-}
 
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
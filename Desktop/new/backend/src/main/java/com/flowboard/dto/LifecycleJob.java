@@ -0,0 +1,69 @@
+package com.flowboard.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of a background archive/restore/purge run, polled by clients for large projects
+@Getter
+public class LifecycleJob {
+    private final UUID projectId;
+    private final Operation operation;
+    private final long total;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong processedRows = new AtomicLong();
+    private final LocalDateTime queuedAt = LocalDateTime.now();
+    private volatile State state = State.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public LifecycleJob(UUID projectId, Operation operation, long total) {
+        this.projectId = projectId;
+        this.operation = operation;
+        this.total = total;
+    }
+
+    public long getProcessed() {
+        return processedRows.get();
+    }
+
+    public int getPercent() {
+        return total == 0 ? 100 : (int) Math.min(100, processedRows.get() * 100 / total);
+    }
+
+    public boolean isActive() {
+        return state == State.QUEUED || state == State.RUNNING;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        state = State.RUNNING;
+    }
+
+    public void advance(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    public void fail(String message) {
+        finishedAt = LocalDateTime.now();
+        error = message;
+        state = State.FAILED;
+    }
+
+    public enum Operation {
+        ARCHIVE, RESTORE, PURGE
+    }
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,15 @@
+package com.flowboard.dto;
+
+import com.flowboard.model.Task;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class TaskMoveRequest {
+    private Task.Status status; // target column; the current one when absent
+
+    private UUID afterId; // card now directly above the moved one
+
+    private UUID beforeId; // card now directly below, used when there is none above
+}
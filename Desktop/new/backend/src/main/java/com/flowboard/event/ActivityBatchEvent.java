@@ -0,0 +1,12 @@
+package com.flowboard.event;
+
+import com.flowboard.model.ActivityLog;
+
+import java.util.List;
+
+/**
+ * Published in-process once per drained outbox batch, inside the transaction that appended
+ * the entries to the activity log. Use {@code @TransactionalEventListener} to react after commit.
+ */
+public record ActivityBatchEvent(List<ActivityLog> entries) {
+}
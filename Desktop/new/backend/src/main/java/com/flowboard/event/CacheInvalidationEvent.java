@@ -0,0 +1,21 @@
+package com.flowboard.event;
+
+import java.util.Set;
+
+/**
+ * Published in-process whenever cached data may be stale: after a local commit, when another node's
+ * NOTIFY arrives, or as a full flush after the listener (re)connects. Keys look like {@code TASK:<id>}.
+ */
+public record CacheInvalidationEvent(Set<String> keys, boolean flushAll) {
+    public static CacheInvalidationEvent all() {
+        return new CacheInvalidationEvent(Set.of(), true);
+    }
+
+    public boolean affects(String type) {
+        return flushAll || keys.stream().anyMatch(key -> key.startsWith(type + ":"));
+    }
+
+    public boolean affects(String type, Object id) {
+        return flushAll || keys.contains(type + ":" + id);
+    }
+}
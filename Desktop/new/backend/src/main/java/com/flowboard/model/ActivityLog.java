@@ -0,0 +1,47 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "activity_log", indexes = {
+    @Index(name = "idx_activity_log_aggregate", columnList = "aggregate_type, aggregate_id, occurred_at"),
+    @Index(name = "idx_activity_log_actor", columnList = "actor_id, occurred_at"),
+    @Index(name = "idx_activity_log_occurred_at", columnList = "occurred_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLog {
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "actor_id", updatable = false)
+    private UUID actorId;
+
+    @Column(name = "payload", columnDefinition = "TEXT", updatable = false)
+    private String payload; // JSON string
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,78 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Cold copy of tasks that belong to archived projects; rows are moved here with set-based statements
+@Entity
+@Table(name = "archived_tasks", indexes = {
+    @Index(name = "idx_archived_tasks_project", columnList = "project_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTask {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.Priority priority;
+
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "assignee_id")
+    private UUID assigneeId;
+
+    @Column(name = "deadline")
+    private LocalDateTime deadline;
+
+    @Column(name = "estimate_hours")
+    private Integer estimateHours;
+
+    @Column(name = "labels", columnDefinition = "TEXT")
+    private String labels;
+
+    @Column(name = "checklist", columnDefinition = "TEXT")
+    private String checklist;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
+    @Column(name = "position")
+    private String position; // fractional ordering key within the project/status column
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ChatMessage {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
@@ -28,8 +28,8 @@ public class ChatMessage {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String response;
 
-    @Column(name = "context", columnDefinition = "TEXT")
-    private String context; // JSON string
+    @Column(name = "context_hash", length = 64)
+    private String contextHash; // SHA-256 of the server-built context sent upstream
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
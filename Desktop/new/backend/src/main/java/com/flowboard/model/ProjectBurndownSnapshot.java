@@ -0,0 +1,38 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_burndown_snapshots", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_project_burndown_snapshots", columnNames = {"project_id", "snapshot_date", "status"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBurndownSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.Status status;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount = 0L;
+
+    @Column(name = "estimate_hours", nullable = false)
+    private Long estimateHours = 0L;
+}
@@ -0,0 +1,38 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_flow_histograms", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_project_flow_histograms", columnNames = {"project_id", "metric", "bucket"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFlowHistogram {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Metric metric;
+
+    @Column(nullable = false)
+    private Integer bucket;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount = 0L;
+
+    public enum Metric {
+        LEAD_TIME, CYCLE_TIME, BLOCKED_TIME
+    }
+}
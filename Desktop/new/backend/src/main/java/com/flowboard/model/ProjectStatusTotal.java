@@ -0,0 +1,34 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_status_totals", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_project_status_totals", columnNames = {"project_id", "status"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatusTotal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.Status status;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount = 0L;
+
+    @Column(name = "estimate_hours", nullable = false)
+    private Long estimateHours = 0L;
+}
@@ -0,0 +1,31 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_weekly_throughput", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_project_weekly_throughput", columnNames = {"project_id", "week_start"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectWeeklyThroughput {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount = 0L;
+}
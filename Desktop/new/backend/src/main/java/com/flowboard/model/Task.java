@@ -5,19 +5,22 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Updates write only changed columns, so an edit never puts back a position read before a rebalance
 @Entity
 @Table(name = "tasks")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -52,6 +55,22 @@ public class Task {
     @Column(name = "checklist", columnDefinition = "TEXT")
     private String checklist; // JSON array as string
 
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Claimed by DeadlineReminderService and reset by TaskRepository with SQL updates; entity saves never write it
+    @Column(name = "reminder_sent_at", insertable = false, updatable = false)
+    private LocalDateTime reminderSentAt;
+
+    @Column(name = "position")
+    private String position; // fractional ordering key within the project/status column
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
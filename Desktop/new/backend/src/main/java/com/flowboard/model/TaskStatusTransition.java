@@ -0,0 +1,40 @@
+package com.flowboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "task_status_transitions", indexes = {
+    @Index(name = "idx_task_status_transitions_task", columnList = "task_id, transitioned_at"),
+    @Index(name = "idx_task_status_transitions_project", columnList = "project_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusTransition {
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private Task.Status fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private Task.Status toStatus;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+}
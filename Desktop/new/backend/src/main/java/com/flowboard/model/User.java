@@ -45,10 +45,11 @@ public class User {
     @Column(name = "theme")
     private String theme = "light";
 
-    @Column(name = "total_points")
+    // Maintained only by UserPointsService with atomic SQL updates; entity saves never overwrite them
+    @Column(name = "total_points", updatable = false)
     private Integer totalPoints = 0;
 
-    @Column(name = "rank")
+    @Column(name = "rank", updatable = false)
     private String rank = "bronze";
 
     @Column(name = "notifications_enabled")
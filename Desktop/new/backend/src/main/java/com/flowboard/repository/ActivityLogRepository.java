@@ -0,0 +1,16 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.ActivityLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, UUID> {
+    List<ActivityLog> findAllByOrderByOccurredAtDesc(Pageable pageable);
+    List<ActivityLog> findByAggregateTypeAndAggregateIdOrderByOccurredAtDesc(String aggregateType, UUID aggregateId, Pageable pageable);
+    List<ActivityLog> findByActorIdOrderByOccurredAtDesc(UUID actorId, Pageable pageable);
+}
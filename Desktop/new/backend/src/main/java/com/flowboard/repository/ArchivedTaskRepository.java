@@ -0,0 +1,53 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.ArchivedTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID> {
+    String TASK_COLUMNS = "id, title, description, status, priority, project_id, assignee_id, deadline, " +
+            "estimate_hours, labels, checklist, status_changed_at, started_at, completed_at, reminder_sent_at, position, created_at, updated_at";
+
+    List<ArchivedTask> findByProjectId(UUID projectId);
+
+    long countByProjectId(UUID projectId);
+
+    @Query(value = "SELECT DISTINCT t.project_id FROM archived_tasks t WHERE t.project_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = t.project_id)",
+            nativeQuery = true)
+    List<UUID> findOrphanedProjectIds();
+
+    @Modifying
+    @Transactional
+    @Query(value = "WITH moved AS (DELETE FROM tasks WHERE id IN " +
+            "(SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit) RETURNING " + TASK_COLUMNS + ") " +
+            "INSERT INTO archived_tasks (" + TASK_COLUMNS + ", archived_at) " +
+            "SELECT " + TASK_COLUMNS + ", now() FROM moved",
+            nativeQuery = true)
+    int archiveChunk(@Param("projectId") UUID projectId, @Param("limit") int limit);
+
+    // tasks can only enforce (id, status), so a row whose id is already live stays archived rather than duplicating it
+    @Modifying
+    @Transactional
+    @Query(value = "WITH moved AS (DELETE FROM archived_tasks WHERE id IN " +
+            "(SELECT a.id FROM archived_tasks a WHERE a.project_id = :projectId " +
+            "AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = a.id) LIMIT :limit) RETURNING " + TASK_COLUMNS + ") " +
+            "INSERT INTO tasks (" + TASK_COLUMNS + ") SELECT " + TASK_COLUMNS + " FROM moved",
+            nativeQuery = true)
+    int restoreChunk(@Param("projectId") UUID projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM archived_tasks WHERE id IN " +
+            "(SELECT id FROM archived_tasks WHERE project_id = :projectId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunk(@Param("projectId") UUID projectId, @Param("limit") int limit);
+}
@@ -0,0 +1,55 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.ProjectBurndownSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectBurndownSnapshotRepository extends JpaRepository<ProjectBurndownSnapshot, UUID> {
+    List<ProjectBurndownSnapshot> findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(UUID projectId, LocalDate from, LocalDate to);
+
+    // Copies the running per-status totals, so a snapshot never touches the tasks table
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO project_burndown_snapshots (id, project_id, snapshot_date, status, task_count, estimate_hours) " +
+            "SELECT gen_random_uuid(), project_id, :snapshotDate, status, task_count, estimate_hours " +
+            "FROM project_status_totals " +
+            "ON CONFLICT (project_id, snapshot_date, status) DO UPDATE SET " +
+            "task_count = EXCLUDED.task_count, estimate_hours = EXCLUDED.estimate_hours",
+            nativeQuery = true)
+    int snapshotFromTotals(@Param("snapshotDate") LocalDate snapshotDate);
+
+    // Reconstructs each task's status at the end of the day from the transition history; existing snapshots win
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO project_burndown_snapshots (id, project_id, snapshot_date, status, task_count, estimate_hours) " +
+            "SELECT gen_random_uuid(), t.project_id, :snapshotDate, s.status, COUNT(*), COALESCE(SUM(t.estimate_hours), 0) " +
+            "FROM tasks t " +
+            "CROSS JOIN LATERAL (SELECT COALESCE(" +
+            "  (SELECT tr.to_status FROM task_status_transitions tr " +
+            "   WHERE tr.task_id = t.id AND tr.transitioned_at < :dayEnd ORDER BY tr.transitioned_at DESC LIMIT 1), " +
+            "  (SELECT tr.from_status FROM task_status_transitions tr " +
+            "   WHERE tr.task_id = t.id AND tr.transitioned_at >= :dayEnd ORDER BY tr.transitioned_at ASC LIMIT 1), " +
+            "  t.status) AS status) s " +
+            "WHERE t.project_id IS NOT NULL AND t.created_at < :dayEnd " +
+            "AND (CAST(:projectId AS text) IS NULL OR t.project_id = CAST(:projectId AS uuid)) " +
+            "GROUP BY t.project_id, s.status " +
+            "ON CONFLICT (project_id, snapshot_date, status) DO NOTHING",
+            nativeQuery = true)
+    int backfillDay(@Param("projectId") String projectId,
+                    @Param("snapshotDate") LocalDate snapshotDate,
+                    @Param("dayEnd") LocalDateTime dayEnd);
+
+    @Modifying
+    @Query("DELETE FROM ProjectBurndownSnapshot e WHERE e.projectId = :projectId")
+    int purgeByProjectId(@Param("projectId") UUID projectId);
+}
@@ -0,0 +1,30 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.ProjectFlowHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectFlowHistogramRepository extends JpaRepository<ProjectFlowHistogram, UUID> {
+    List<ProjectFlowHistogram> findByProjectIdOrderByBucketAsc(UUID projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_flow_histograms (id, project_id, metric, bucket, sample_count) " +
+            "VALUES (gen_random_uuid(), :projectId, :metric, :bucket, 1) " +
+            "ON CONFLICT (project_id, metric, bucket) DO UPDATE SET " +
+            "sample_count = project_flow_histograms.sample_count + 1",
+            nativeQuery = true)
+    void increment(@Param("projectId") UUID projectId,
+                   @Param("metric") String metric,
+                   @Param("bucket") int bucket);
+
+    @Modifying
+    @Query("DELETE FROM ProjectFlowHistogram e WHERE e.projectId = :projectId")
+    int purgeByProjectId(@Param("projectId") UUID projectId);
+}
@@ -2,11 +2,29 @@ package com.flowboard.repository;
 
 import com.flowboard.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
+    @Query(value = "SELECT p.id FROM projects p WHERE p.status = 'ARCHIVED' " +
+            "AND EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = p.id)",
+            nativeQuery = true)
+    List<UUID> findArchivedWithLiveTasks();
+
+    // A restore interrupted after the project flipped back leaves its tasks invisible in archived_tasks
+    @Query(value = "SELECT p.id FROM projects p WHERE p.status <> 'ARCHIVED' " +
+            "AND EXISTS (SELECT 1 FROM archived_tasks a WHERE a.project_id = p.id)",
+            nativeQuery = true)
+    List<UUID> findLiveWithArchivedTasks();
+
+    // Share lock so the project cannot be archived until the caller's task write commits
+    @Query(value = "SELECT p.status FROM projects p WHERE p.id = :id FOR SHARE", nativeQuery = true)
+    Optional<String> lockStatusById(@Param("id") UUID id);
 }
 
@@ -0,0 +1,43 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.ProjectStatusTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectStatusTotalRepository extends JpaRepository<ProjectStatusTotal, UUID> {
+    List<ProjectStatusTotal> findByProjectId(UUID projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_status_totals (id, project_id, status, task_count, estimate_hours) " +
+            "VALUES (gen_random_uuid(), :projectId, :status, :countDelta, :hoursDelta) " +
+            "ON CONFLICT (project_id, status) DO UPDATE SET " +
+            "task_count = project_status_totals.task_count + EXCLUDED.task_count, " +
+            "estimate_hours = project_status_totals.estimate_hours + EXCLUDED.estimate_hours",
+            nativeQuery = true)
+    void increment(@Param("projectId") UUID projectId,
+                   @Param("status") String status,
+                   @Param("countDelta") long countDelta,
+                   @Param("hoursDelta") long hoursDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_status_totals", nativeQuery = true)
+    void deleteAllTotals();
+
+    @Modifying
+    @Query(value = "INSERT INTO project_status_totals (id, project_id, status, task_count, estimate_hours) " +
+            "SELECT gen_random_uuid(), project_id, status, COUNT(*), COALESCE(SUM(estimate_hours), 0) " +
+            "FROM tasks WHERE project_id IS NOT NULL GROUP BY project_id, status",
+            nativeQuery = true)
+    int rebuildFromTasks();
+
+    @Modifying
+    @Query("DELETE FROM ProjectStatusTotal e WHERE e.projectId = :projectId")
+    int purgeByProjectId(@Param("projectId") UUID projectId);
+}
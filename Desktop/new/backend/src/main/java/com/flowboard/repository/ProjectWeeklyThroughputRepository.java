@@ -0,0 +1,29 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.ProjectWeeklyThroughput;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectWeeklyThroughputRepository extends JpaRepository<ProjectWeeklyThroughput, UUID> {
+    List<ProjectWeeklyThroughput> findByProjectIdAndWeekStartGreaterThanEqualOrderByWeekStartAsc(UUID projectId, LocalDate from);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_weekly_throughput (id, project_id, week_start, completed_count) " +
+            "VALUES (gen_random_uuid(), :projectId, :weekStart, 1) " +
+            "ON CONFLICT (project_id, week_start) DO UPDATE SET " +
+            "completed_count = project_weekly_throughput.completed_count + 1",
+            nativeQuery = true)
+    void increment(@Param("projectId") UUID projectId, @Param("weekStart") LocalDate weekStart);
+
+    @Modifying
+    @Query("DELETE FROM ProjectWeeklyThroughput e WHERE e.projectId = :projectId")
+    int purgeByProjectId(@Param("projectId") UUID projectId);
+}
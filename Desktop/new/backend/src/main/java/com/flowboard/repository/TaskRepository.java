@@ -1,15 +1,56 @@
 package com.flowboard.repository;
 
 import com.flowboard.model.Task;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
     List<Task> findByAssigneeId(UUID assigneeId);
     List<Task> findByProjectId(UUID projectId);
+    boolean existsByProjectIdNotNull();
+    long countByProjectId(UUID projectId);
+
+    // Hot-path reads skip tasks whose project is archived or already deleted and awaiting purge
+    @Query("SELECT t FROM Task t WHERE t.projectId IS NULL OR t.projectId IN " +
+            "(SELECT p.id FROM Project p WHERE p.status <> com.flowboard.model.Project$Status.ARCHIVED)")
+    List<Task> findAllInLiveProjects(Sort sort);
+
+    @Query("SELECT t FROM Task t WHERE t.assigneeId = :assigneeId AND (t.projectId IS NULL OR t.projectId IN " +
+            "(SELECT p.id FROM Project p WHERE p.status <> com.flowboard.model.Project$Status.ARCHIVED))")
+    List<Task> findByAssigneeIdInLiveProjects(@Param("assigneeId") UUID assigneeId);
+
+    // Board order within each status column; served by idx_tasks_board
+    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId " +
+            "ORDER BY t.status, t.position ASC NULLS LAST, t.createdAt, t.id")
+    List<Task> findBoard(@Param("projectId") UUID projectId);
+
+    @Query(value = "SELECT DISTINCT t.project_id FROM tasks t WHERE t.project_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = t.project_id)",
+            nativeQuery = true)
+    List<UUID> findOrphanedProjectIds();
+
+    @Modifying
+    @Query(value = "UPDATE tasks SET reminder_sent_at = NULL WHERE id = :id", nativeQuery = true)
+    int clearReminderSentAt(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunk(@Param("projectId") UUID projectId, @Param("limit") int limit);
+
+    @Query("SELECT MIN(t.createdAt) FROM Task t WHERE t.projectId IS NOT NULL AND (:projectId IS NULL OR t.projectId = :projectId)")
+    Optional<LocalDateTime> findEarliestCreatedAt(@Param("projectId") UUID projectId);
 }
 
@@ -0,0 +1,30 @@
+package com.flowboard.repository;
+
+import com.flowboard.model.TaskStatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskStatusTransitionRepository extends JpaRepository<TaskStatusTransition, UUID> {
+    List<TaskStatusTransition> findByTaskIdOrderByTransitionedAtAsc(UUID taskId);
+    long countByProjectId(UUID projectId);
+
+    @Query(value = "SELECT DISTINCT t.project_id FROM task_status_transitions t WHERE t.project_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = t.project_id)",
+            nativeQuery = true)
+    List<UUID> findOrphanedProjectIds();
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM task_status_transitions WHERE id IN " +
+            "(SELECT id FROM task_status_transitions WHERE project_id = :projectId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunk(@Param("projectId") UUID projectId, @Param("limit") int limit);
+}
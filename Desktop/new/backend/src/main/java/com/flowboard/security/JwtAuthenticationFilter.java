@@ -1,12 +1,16 @@
 package com.flowboard.security;
 
 import com.flowboard.config.JwtUtil;
+import com.flowboard.event.CacheInvalidationEvent;
 import com.flowboard.repository.UserRepository;
+import com.flowboard.service.CacheInvalidationBus;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,6 +20,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +31,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
 
+    // Saves a users lookup on every request; entries are dropped when the user changes on any node
+    private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private long principalTtlSeconds;
+
+    @Value("${security.principal-cache.max-entries:10000}")
+    private int maxPrincipals;
+
+    private record CachedPrincipal(UUID userId, String role, long expiresAt) {
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -42,12 +62,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String email = jwtUtil.extractUsername(token);
             
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                userRepository.findByEmail(email).ifPresent(user -> {
+                principalFor(email).ifPresent(principal -> {
                     if (jwtUtil.validateToken(token, email)) {
                         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            user.getId().toString(),
+                            principal.userId().toString(),
                             null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.role()))
                         );
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                     }
@@ -59,5 +79,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
 
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.flushAll()) {
+            principals.clear();
+        } else if (event.affects(CacheInvalidationBus.USER)) {
+            principals.values().removeIf(principal -> event.affects(CacheInvalidationBus.USER, principal.userId()));
+        }
+    }
+
+    private Optional<CachedPrincipal> principalFor(String email) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principals.get(email);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached);
+        }
+        Optional<CachedPrincipal> loaded = userRepository.findByEmail(email)
+                .map(user -> new CachedPrincipal(user.getId(), user.getRole().name(), now + principalTtlSeconds * 1000));
+        if (loaded.isPresent()) {
+            if (principals.size() >= maxPrincipals) {
+                principals.values().removeIf(principal -> principal.expiresAt() <= now);
+            }
+            principals.put(email, loaded.get());
+        } else {
+            principals.remove(email);
+        }
+        return loaded;
+    }
+}
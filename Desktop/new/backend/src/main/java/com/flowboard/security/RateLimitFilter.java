@@ -0,0 +1,124 @@
+package com.flowboard.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.config.RateLimitProperties;
+import com.flowboard.dto.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Per-user request throttling. Runs after {@link JwtAuthenticationFilter} so buckets are keyed by
+ * the authenticated user id; unauthenticated calls fall back to the client address, which is the
+ * real client rather than the load balancer because {@code server.forward-headers-strategy=native}
+ * resolves it from X-Forwarded-For sent by trusted proxies.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private List<RateLimitPolicy> policies;
+
+    @PostConstruct
+    void init() {
+        policies = Stream.concat(properties.getRoutes().stream(), Stream.of(properties.getDefaultRoute()))
+                .map(route -> new RateLimitPolicy(route.getName(), route.getPattern(), route.getRequestsPerMinute(), route.getBurst()))
+                .toList();
+        meterRegistry.gaugeMapSize("flowboard.ratelimit.buckets", List.of(), buckets);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || resolvePolicy(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        RateLimitPolicy policy = resolvePolicy(request);
+        long now = System.nanoTime();
+        long waitNanos = bucketFor(clientKey(request) + "|" + policy.name(), now).tryAcquire(policy, now);
+
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("flowboard.ratelimit.throttled", "route", policy.name()).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Too many requests, retry in " + retryAfterSeconds + "s"));
+    }
+
+    // A bucket idle for longer than it takes to refill is full, so dropping it loses nothing
+    @Scheduled(fixedDelayString = "${ratelimit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long cutoff = System.nanoTime() - TimeUnit.SECONDS.toNanos(properties.getIdleEvictionSeconds());
+        buckets.values().removeIf(bucket -> bucket.isIdleSince(cutoff));
+    }
+
+    private TokenBucket bucketFor(String key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            // Full until the next scheduled sweep: new clients share one bucket per route. Sweeping here
+            // would let a flood of new addresses trigger a full map scan on every request
+            key = "overflow|" + key.substring(key.lastIndexOf('|') + 1);
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+    }
+
+    private RateLimitPolicy resolvePolicy(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitPolicy policy : policies) {
+            if (pathMatcher.match(policy.pattern(), path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
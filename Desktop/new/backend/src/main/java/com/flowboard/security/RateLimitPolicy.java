@@ -0,0 +1,13 @@
+package com.flowboard.security;
+
+import java.util.concurrent.TimeUnit;
+
+record RateLimitPolicy(String name, String pattern, int requestsPerMinute, int burst) {
+    long emissionIntervalNanos() {
+        return TimeUnit.MINUTES.toNanos(1) / Math.max(1, requestsPerMinute);
+    }
+
+    long burstToleranceNanos() {
+        return emissionIntervalNanos() * (Math.max(1, burst) - 1L);
+    }
+}
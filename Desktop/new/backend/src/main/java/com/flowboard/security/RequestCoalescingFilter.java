@@ -0,0 +1,180 @@
+package com.flowboard.security;
+
+import com.flowboard.event.CacheInvalidationEvent;
+import com.flowboard.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Single-flight for hot list endpoints. Concurrent identical GETs (same path, query, Accept header
+ * and granted authorities) wait for the first one and reuse its serialized response instead of
+ * each running the same query. With {@code coalescing.micro-cache-ms} above zero, successful
+ * responses are also reused for that long after they complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    @Value("${coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${coalescing.paths:/api/projects,/api/tasks,/api/tasks/board}")
+    private List<String> paths;
+
+    @Value("${coalescing.micro-cache-ms:0}")
+    private long microCacheMillis;
+
+    @Value("${coalescing.wait-timeout-ms:10000}")
+    private long waitTimeoutMillis;
+
+    private record CapturedResponse(int status, String contentType, byte[] body) {
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<CapturedResponse> response = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+    }
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gaugeMapSize("flowboard.coalescing.flights", List.of(), flights);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String route = request.getRequestURI().substring(request.getContextPath().length());
+        String key = key(request, route, authentication);
+        long now = System.currentTimeMillis();
+        Flight flight = new Flight();
+        Flight existing = flights.compute(key, (k, current) ->
+                current == null || current.expiresAt <= now ? flight : current);
+
+        if (existing != flight) {
+            String outcome = existing.response.isDone() ? "cached" : "coalesced";
+            if (replay(existing, response)) {
+                meterRegistry.counter("flowboard.coalescing.requests", "route", route, "outcome", outcome).increment();
+                return;
+            }
+            // The shared request failed or took too long; serve this one on its own
+            meterRegistry.counter("flowboard.coalescing.requests", "route", route, "outcome", "fallback").increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("flowboard.coalescing.requests", "route", route, "outcome", "leader").increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            CapturedResponse captured = new CapturedResponse(wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getContentAsByteArray());
+            if (microCacheMillis > 0 && captured.status() == HttpServletResponse.SC_OK) {
+                flight.expiresAt = System.currentTimeMillis() + microCacheMillis;
+            } else {
+                flights.remove(key, flight);
+            }
+            flight.response.complete(captured);
+            wrapper.copyBodyToResponse();
+        } catch (IOException | ServletException | RuntimeException e) {
+            flights.remove(key, flight);
+            flight.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops every shared response, e.g. after a write that the micro-cache must not hide. Flights
+     * still running are dropped too: they may have read before the write, so requests arriving
+     * afterwards start a fresh one instead of joining them. Their leaders remove only their own
+     * entry, so a replacement flight under the same key is left alone.
+     */
+    public void invalidateAll() {
+        flights.clear();
+    }
+
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.affects(OutboxService.TASK) || event.affects(OutboxService.PROJECT)) {
+            invalidateAll();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coalescing.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        flights.values().removeIf(flight -> flight.expiresAt <= now);
+    }
+
+    private boolean replay(Flight flight, HttpServletResponse response) throws IOException {
+        CapturedResponse captured;
+        try {
+            captured = flight.response.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+        response.setStatus(captured.status());
+        if (captured.contentType() != null) {
+            response.setContentType(captured.contentType());
+        }
+        response.setContentLength(captured.body().length);
+        response.getOutputStream().write(captured.body());
+        return true;
+    }
+
+    private static String key(HttpServletRequest request, String route, Authentication authentication) {
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return route + "?" + (request.getQueryString() != null ? request.getQueryString() : "")
+                + "|" + request.getHeader(HttpHeaders.ACCEPT)
+                + "|" + authorities;
+    }
+}
@@ -0,0 +1,39 @@
+package com.flowboard.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as GCRA: the whole bucket state is one "theoretical arrival
+ * time" updated with compare-and-set, so concurrent requests for the same key never block.
+ */
+class TokenBucket {
+    private final AtomicLong theoreticalArrivalNanos;
+    private volatile long lastAccessNanos;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+        this.lastAccessNanos = nowNanos;
+    }
+
+    // Returns 0 when a token was taken, otherwise how many nanoseconds to wait before retrying
+    long tryAcquire(RateLimitPolicy policy, long nowNanos) {
+        lastAccessNanos = nowNanos;
+        long interval = policy.emissionIntervalNanos();
+        long tolerance = policy.burstToleranceNanos();
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - tolerance - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isIdleSince(long cutoffNanos) {
+        return lastAccessNanos - cutoffNanos < 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.flowboard.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transaction-scoped Postgres advisory locks keyed by name. Unlike row locks they need no row to
+ * exist yet and survive a row moving to another partition, and they are shared by every replica.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdvisoryLockService {
+    private final JdbcTemplate jdbcTemplate;
+
+    // Blocks until the lock is free; released when the caller's transaction ends
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(String key) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtextextended(?, 0))", key);
+    }
+}
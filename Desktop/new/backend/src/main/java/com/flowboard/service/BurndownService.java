@@ -0,0 +1,104 @@
+package com.flowboard.service;
+
+import com.flowboard.model.ProjectBurndownSnapshot;
+import com.flowboard.model.Task;
+import com.flowboard.repository.ProjectBurndownSnapshotRepository;
+import com.flowboard.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BurndownService {
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final ProjectBurndownSnapshotRepository snapshotRepository;
+    private final TaskRepository taskRepository;
+
+    // Re-running during the day just refreshes today's rows; the last run before midnight is what sticks
+    @Scheduled(cron = "${burndown.snapshot.cron:0 0 * * * *}")
+    public void snapshotToday() {
+        int rows = snapshotRepository.snapshotFromTotals(LocalDate.now());
+        log.debug("Recorded {} burndown snapshot rows", rows);
+    }
+
+    public List<Map<String, Object>> getSeries(UUID projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1L);
+        if (start.isBefore(end.minusDays(MAX_RANGE_DAYS))) {
+            start = end.minusDays(MAX_RANGE_DAYS);
+        }
+
+        Map<LocalDate, List<ProjectBurndownSnapshot>> byDate = new LinkedHashMap<>();
+        for (ProjectBurndownSnapshot snapshot : snapshotRepository
+                .findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(projectId, start, end)) {
+            byDate.computeIfAbsent(snapshot.getSnapshotDate(), date -> new ArrayList<>()).add(snapshot);
+        }
+        return byDate.entrySet().stream()
+                .map(day -> toPoint(day.getKey(), day.getValue()))
+                .toList();
+    }
+
+    public int backfill(UUID projectId, LocalDate from, LocalDate to) {
+        LocalDate start = from != null
+                ? from
+                : taskRepository.findEarliestCreatedAt(projectId).map(LocalDateTime::toLocalDate).orElse(null);
+        if (start == null) {
+            return 0;
+        }
+        LocalDate end = to != null ? to : LocalDate.now().minusDays(1);
+        String project = projectId != null ? projectId.toString() : null;
+
+        // One statement (and transaction) per day keeps each step short on large histories
+        int rows = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            rows += snapshotRepository.backfillDay(project, day, day.plusDays(1).atStartOfDay());
+        }
+        log.info("Backfilled {} burndown snapshot rows from {} to {}", rows, start, end);
+        return rows;
+    }
+
+    private Map<String, Object> toPoint(LocalDate date, List<ProjectBurndownSnapshot> snapshots) {
+        Map<Task.Status, Long> counts = new EnumMap<>(Task.Status.class);
+        Map<Task.Status, Long> hours = new EnumMap<>(Task.Status.class);
+        for (Task.Status status : Task.Status.values()) {
+            counts.put(status, 0L);
+            hours.put(status, 0L);
+        }
+        for (ProjectBurndownSnapshot snapshot : snapshots) {
+            counts.put(snapshot.getStatus(), snapshot.getTaskCount());
+            hours.put(snapshot.getStatus(), snapshot.getEstimateHours());
+        }
+
+        // Cancelled work leaves the scope; everything else is either done or remaining
+        long scope = counts.values().stream().mapToLong(Long::longValue).sum() - counts.get(Task.Status.CANCELLED);
+        long scopeHours = hours.values().stream().mapToLong(Long::longValue).sum() - hours.get(Task.Status.CANCELLED);
+        long completed = counts.get(Task.Status.DONE);
+        long completedHours = hours.get(Task.Status.DONE);
+
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("date", date);
+        point.put("counts", counts);
+        point.put("estimateHours", hours);
+        point.put("scope", scope);
+        point.put("completed", completed);
+        point.put("remaining", scope - completed);
+        point.put("scopeHours", scopeHours);
+        point.put("completedHours", completedHours);
+        point.put("remainingHours", scopeHours - completedHours);
+        return point;
+    }
+}
@@ -0,0 +1,231 @@
+package com.flowboard.service;
+
+import com.flowboard.event.CacheInvalidationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps in-process caches consistent across replicas. Keys published during a transaction are
+ * sent with {@code pg_notify} on that transaction's connection, so Postgres delivers them only if
+ * it commits; every node LISTENs on a dedicated connection and re-publishes what it receives as a
+ * {@link CacheInvalidationEvent}. Notifications sent while a node was disconnected are lost, so a
+ * (re)connect always starts with a full flush.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements SmartLifecycle {
+    public static final String USER = "USER";
+    // Published for the assignees of changed tasks; per-user caches built from assigned work listen for it
+    public static final String ASSIGNEE = "ASSIGNEE";
+    static final String CHANNEL = "flowboard_cache";
+    private static final String FLUSH_ALL = "*";
+    // NOTIFY payloads must stay under 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${cache.invalidation.listen:true}")
+    private boolean listenEnabled;
+
+    @Value("${cache.invalidation.max-keys-per-transaction:500}")
+    private int maxKeysPerTransaction;
+
+    @Value("${cache.invalidation.poll-timeout-ms:1000}")
+    private int pollTimeoutMillis;
+
+    @Value("${cache.invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    /** Queues {@code type:id} for broadcast when the current transaction commits, or right away outside one. */
+    public void publish(String type, Object id) {
+        String key = type + ":" + id;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            Set<String> keys = Set.of(key);
+            notifyCluster(keys);
+            evictLocally(keys);
+            return;
+        }
+        PendingKeys pending = (PendingKeys) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingKeys();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.keys.add(key);
+    }
+
+    private class PendingKeys implements TransactionSynchronization {
+        private final Set<String> keys = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            notifyCluster(keys);
+        }
+
+        @Override
+        public void afterCommit() {
+            evictLocally(keys);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+        }
+    }
+
+    private void notifyCluster(Set<String> keys) {
+        if (keys.size() > maxKeysPerTransaction) {
+            send(FLUSH_ALL);
+            return;
+        }
+        StringBuilder payload = new StringBuilder();
+        for (String key : keys) {
+            if (payload.length() > 0 && payload.length() + key.length() + 1 > MAX_PAYLOAD_BYTES) {
+                send(payload.toString());
+                payload.setLength(0);
+            }
+            payload.append(payload.length() > 0 ? "," : "").append(key);
+        }
+        if (payload.length() > 0) {
+            send(payload.toString());
+        }
+    }
+
+    private void send(String keys) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {
+        }, CHANNEL, nodeId + "|" + keys);
+    }
+
+    private void evictLocally(Set<String> keys) {
+        meterRegistry.counter("flowboard.cache.invalidations", "source", "local").increment(keys.size());
+        eventPublisher.publishEvent(keys.size() > maxKeysPerTransaction
+                ? CacheInvalidationEvent.all()
+                : new CacheInvalidationEvent(Set.copyOf(keys), false));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!listenEnabled) {
+            return;
+        }
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for cache invalidations on channel {}", CHANNEL);
+                flushAll();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications);
+                    } else {
+                        // Idle: make sure the connection is still alive so a silent drop is noticed
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}",
+                        reconnectDelayMillis, e.getMessage());
+                // Evict now as well: until we reconnect, this node can't hear about other nodes' writes
+                flushAll();
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification[] notifications) {
+        Set<String> keys = new HashSet<>();
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            int separator = payload.indexOf('|');
+            if (separator < 0) {
+                // Manual NOTIFY without a node id, e.g. from psql
+                keys.add(payload);
+                continue;
+            }
+            if (nodeId.equals(payload.substring(0, separator))) {
+                // Already evicted locally after commit
+                continue;
+            }
+            for (String key : payload.substring(separator + 1).split(",")) {
+                keys.add(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (keys.contains(FLUSH_ALL)) {
+            flushAll();
+            return;
+        }
+        meterRegistry.counter("flowboard.cache.invalidations", "source", "remote").increment(keys.size());
+        eventPublisher.publishEvent(new CacheInvalidationEvent(keys, false));
+    }
+
+    private void flushAll() {
+        meterRegistry.counter("flowboard.cache.invalidations", "source", "flush").increment();
+        eventPublisher.publishEvent(CacheInvalidationEvent.all());
+    }
+}
@@ -0,0 +1,30 @@
+package com.flowboard.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Applies partial updates field by field and remembers what actually changed for the activity log
+class ChangeSet {
+    private final Map<String, Object> changes = new LinkedHashMap<>();
+
+    <T> void apply(String field, T current, T requested, Consumer<T> setter) {
+        if (requested == null || requested.equals(current)) {
+            return;
+        }
+        Map<String, Object> change = new HashMap<>();
+        change.put("from", current);
+        change.put("to", requested);
+        changes.put(field, change);
+        setter.accept(requested);
+    }
+
+    boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    Map<String, Object> toPayload() {
+        return Map.of("changes", changes);
+    }
+}
@@ -0,0 +1,147 @@
+package com.flowboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.event.CacheInvalidationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the context sent upstream with each chatbot message from the user's own data, instead of
+ * trusting whatever the client sends. Results are cached per user for a few seconds so a burst of
+ * messages costs one round of queries.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatbotContextService {
+    private static final String OPEN_STATUSES = "('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED')";
+    private static final String LIVE_PROJECT = "(t.project_id IS NULL OR t.project_id IN " +
+            "(SELECT p.id FROM projects p WHERE p.status <> 'ARCHIVED'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, CachedContext> cache = new ConcurrentHashMap<>();
+
+    @Value("${chatbot.context.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${chatbot.context.max-tasks:20}")
+    private int maxTasks;
+
+    @Value("${chatbot.context.max-entries:10000}")
+    private int maxEntries;
+
+    public record CachedContext(Map<String, Object> context, String hash, long expiresAt) {
+    }
+
+    public CachedContext contextFor(UUID userId) {
+        long now = System.currentTimeMillis();
+        CachedContext cached = cache.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+        Map<String, Object> context = build(userId);
+        CachedContext fresh = new CachedContext(context, hash(context), now + ttlSeconds * 1000);
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        cache.put(userId, fresh);
+        return fresh;
+    }
+
+    public void invalidate(UUID userId) {
+        cache.remove(userId);
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * A context is built from the user's own assigned tasks, so task changes drop only the contexts
+     * of the assignees involved. Project changes (renames, archival) are rare and can touch anyone,
+     * so they drop everything. Project open counts that move because of other users' tasks are
+     * allowed to lag by up to the TTL.
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.affects(OutboxService.PROJECT)) {
+            invalidateAll();
+            return;
+        }
+        String prefix = CacheInvalidationBus.ASSIGNEE + ":";
+        for (String key : event.keys()) {
+            if (key.startsWith(prefix)) {
+                invalidate(UUID.fromString(key.substring(prefix.length())));
+            }
+        }
+    }
+
+    private Map<String, Object> build(UUID userId) {
+        Map<String, Object> counts = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS open_tasks, COUNT(*) FILTER (WHERE t.deadline < now()) AS overdue_tasks " +
+                        "FROM tasks t WHERE t.assignee_id = ? AND t.status IN " + OPEN_STATUSES + " AND " + LIVE_PROJECT,
+                userId);
+
+        List<Map<String, Object>> tasks = jdbcTemplate.query(
+                "SELECT t.title, t.status, t.priority, t.deadline, p.name AS project FROM tasks t " +
+                        "LEFT JOIN projects p ON p.id = t.project_id " +
+                        "WHERE t.assignee_id = ? AND t.status IN " + OPEN_STATUSES + " AND " + LIVE_PROJECT + " " +
+                        "ORDER BY t.deadline ASC NULLS LAST, t.created_at ASC LIMIT ?",
+                (rs, i) -> {
+                    Map<String, Object> task = new LinkedHashMap<>();
+                    task.put("title", rs.getString("title"));
+                    task.put("status", rs.getString("status"));
+                    task.put("priority", rs.getString("priority"));
+                    Timestamp deadline = rs.getTimestamp("deadline");
+                    task.put("deadline", deadline != null ? deadline.toLocalDateTime().toString() : null);
+                    task.put("project", rs.getString("project"));
+                    return task;
+                },
+                userId, maxTasks);
+
+        // Open counts come from the running totals rather than another scan of tasks
+        List<Map<String, Object>> projects = jdbcTemplate.query(
+                "SELECT p.name, COALESCE(SUM(s.task_count) FILTER (WHERE s.status IN " + OPEN_STATUSES + "), 0) AS open_tasks " +
+                        "FROM projects p LEFT JOIN project_status_totals s ON s.project_id = p.id " +
+                        "WHERE p.status = 'ACTIVE' AND p.id IN (SELECT t.project_id FROM tasks t " +
+                        "WHERE t.assignee_id = ? AND t.status IN " + OPEN_STATUSES + ") " +
+                        "GROUP BY p.id, p.name ORDER BY p.name",
+                (rs, i) -> {
+                    Map<String, Object> project = new LinkedHashMap<>();
+                    project.put("name", rs.getString("name"));
+                    project.put("openTasks", rs.getLong("open_tasks"));
+                    return project;
+                },
+                userId);
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("openTaskCount", ((Number) counts.get("open_tasks")).longValue());
+        context.put("overdueTaskCount", ((Number) counts.get("overdue_tasks")).longValue());
+        context.put("openTasks", tasks);
+        context.put("activeProjects", projects);
+        return context;
+    }
+
+    private String hash(Map<String, Object> context) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(context);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash chatbot context", e);
+        }
+    }
+}
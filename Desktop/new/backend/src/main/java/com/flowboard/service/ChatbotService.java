@@ -20,6 +20,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChatbotService {
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatbotContextService chatbotContextService;
     private final RestTemplate restTemplate = new RestTemplate();
 
     @Value("${chatbot.api.url:}")
@@ -28,7 +29,8 @@ public class ChatbotService {
     @Value("${chatbot.api.key:}")
     private String chatbotApiKey;
 
-    public String sendMessage(UUID userId, String message, Map<String, Object> context) {
+    public String sendMessage(UUID userId, String message) {
+        ChatbotContextService.CachedContext context = chatbotContextService.contextFor(userId);
         String response;
         
         if (chatbotApiUrl != null && !chatbotApiUrl.isEmpty()) {
@@ -42,7 +44,7 @@ public class ChatbotService {
 
                 Map<String, Object> requestBody = new HashMap<>();
                 requestBody.put("message", message);
-                requestBody.put("context", context);
+                requestBody.put("context", context.context());
 
                 HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
                 ResponseEntity<Map> responseEntity = restTemplate.exchange(
@@ -69,7 +71,7 @@ public class ChatbotService {
         chatMessage.setUserId(userId);
         chatMessage.setMessage(message);
         chatMessage.setResponse(response);
-        chatMessage.setContext(context != null ? context.toString() : null);
+        chatMessage.setContextHash(context.hash());
         chatMessageRepository.save(chatMessage);
 
         return response;
@@ -0,0 +1,214 @@
+package com.flowboard.service;
+
+import com.flowboard.event.ActivityBatchEvent;
+import com.flowboard.model.ActivityLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sends one reminder per open task shortly before its deadline to assignees with notifications
+ * enabled. Upcoming reminders live in an in-memory {@link TimingWheel} that is loaded from the
+ * database on startup, topped up periodically, and adjusted as task events come off the outbox.
+ * Firing claims {@code reminder_sent_at} with a conditional update, so stale wheel entries and
+ * other instances can never produce a duplicate.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadlineReminderService {
+    private static final String OPEN_STATUSES = "('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED')";
+    private static final String ELIGIBLE = "t.deadline IS NOT NULL AND t.reminder_sent_at IS NULL " +
+            "AND t.status IN " + OPEN_STATUSES + " " +
+            "AND t.assignee_id IN (SELECT u.id FROM users u WHERE u.notifications_enabled) " +
+            "AND (t.project_id IS NULL OR t.project_id IN (SELECT p.id FROM projects p WHERE p.status <> 'ARCHIVED'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminders.lead-minutes:60}")
+    private long leadMinutes;
+
+    @Value("${reminders.horizon-hours:48}")
+    private long horizonHours;
+
+    @Value("${reminders.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${reminders.batch-size:500}")
+    private int batchSize;
+
+    private TimingWheel<UUID> wheel;
+    private Counter scheduledCounter;
+    private Counter firedCounter;
+
+    @PostConstruct
+    void init() {
+        wheel = new TimingWheel<>(tickMs, 60, 4, System.currentTimeMillis());
+        scheduledCounter = meterRegistry.counter("flowboard.reminders.scheduled");
+        firedCounter = meterRegistry.counter("flowboard.reminders.fired");
+        meterRegistry.gauge("flowboard.reminders.pending", this, service -> service.pending());
+    }
+
+    // Re-reads every reminder due within the horizon; runs more often than the horizon so it keeps moving forward
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${reminders.reload-interval-ms:3600000}",
+            fixedDelayString = "${reminders.reload-interval-ms:3600000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long horizonMinutes = Math.min(horizonHours * 60, wheel.horizonMs() / 60_000);
+        Timestamp until = Timestamp.valueOf(now.plusMinutes(leadMinutes + horizonMinutes));
+        Map<UUID, LocalDateTime> deadlines = new HashMap<>();
+        jdbcTemplate.query("SELECT t.id, t.deadline FROM tasks t WHERE " + ELIGIBLE + " AND t.deadline > ? AND t.deadline <= ?",
+                rs -> {
+                    deadlines.put(rs.getObject("id", UUID.class), rs.getTimestamp("deadline").toLocalDateTime());
+                },
+                Timestamp.valueOf(now), until);
+        synchronized (wheel) {
+            wheel.clear();
+            deadlines.forEach(this::schedule);
+        }
+        log.info("Loaded {} upcoming deadline reminders", deadlines.size());
+    }
+
+    @TransactionalEventListener
+    public void onActivity(ActivityBatchEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> changed = new HashSet<>();
+        Set<UUID> deleted = new HashSet<>();
+        for (ActivityLog entry : event.entries()) {
+            if (!OutboxService.TASK.equals(entry.getAggregateType())) {
+                continue;
+            }
+            switch (entry.getEventType()) {
+                case "TASK_CREATED", "TASK_UPDATED" -> changed.add(entry.getAggregateId());
+                case "TASK_DELETED" -> deleted.add(entry.getAggregateId());
+                case "TASKS_IMPORTED" -> {
+                    reload();
+                    return;
+                }
+                default -> {
+                }
+            }
+        }
+        if (changed.isEmpty() && deleted.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, LocalDateTime> deadlines = new HashMap<>();
+        if (!changed.isEmpty()) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "SELECT t.id, t.deadline FROM tasks t WHERE t.id = ANY(?) AND " + ELIGIBLE + " AND t.deadline > now()");
+                ps.setArray(1, con.createArrayOf("uuid", changed.toArray()));
+                return ps;
+            }, rs -> {
+                deadlines.put(rs.getObject("id", UUID.class), rs.getTimestamp("deadline").toLocalDateTime());
+            });
+        }
+        synchronized (wheel) {
+            deleted.forEach(wheel::cancel);
+            for (UUID id : changed) {
+                LocalDateTime deadline = deadlines.get(id);
+                if (deadline != null) {
+                    schedule(id, deadline);
+                } else {
+                    wheel.cancel(id);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reminders.tick-ms:1000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        List<UUID> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<UUID> batch = due.subList(from, Math.min(due.size(), from + batchSize));
+            try {
+                Integer fired = transactionTemplate.execute(status -> fire(batch));
+                firedCounter.increment(fired != null ? fired : 0);
+            } catch (Exception e) {
+                // The claim rolled back with the failure; the next reload picks these tasks up again
+                log.warn("Failed to send {} deadline reminders: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private int fire(List<UUID> ids) {
+        // Re-checks eligibility so entries made stale by edits on other instances are dropped here
+        List<Map<String, Object>> claimed = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("UPDATE tasks t SET reminder_sent_at = now() " +
+                    "WHERE t.id = ANY(?) AND " + ELIGIBLE + " AND t.deadline > now() " +
+                    "AND t.deadline <= now() + make_interval(mins => ?) " +
+                    "RETURNING t.id, t.title, t.project_id, t.assignee_id, t.deadline");
+            Array array = con.createArrayOf("uuid", ids.toArray());
+            ps.setArray(1, array);
+            // One minute of slack for timers that fire a tick late
+            ps.setInt(2, (int) leadMinutes + 1);
+            return ps;
+        }, (rs, i) -> {
+            Map<String, Object> reminder = new HashMap<>();
+            reminder.put("taskId", rs.getObject("id", UUID.class));
+            reminder.put("title", rs.getString("title"));
+            reminder.put("projectId", rs.getObject("project_id", UUID.class));
+            reminder.put("assigneeId", rs.getObject("assignee_id", UUID.class));
+            reminder.put("deadline", rs.getTimestamp("deadline").toLocalDateTime());
+            return reminder;
+        });
+        for (Map<String, Object> reminder : claimed) {
+            outboxService.record(OutboxService.TASK, (UUID) reminder.get("taskId"), "TASK_DEADLINE_REMINDER", reminder);
+        }
+        return claimed.size();
+    }
+
+    private void schedule(UUID taskId, LocalDateTime deadline) {
+        long remindAt = deadline.minusMinutes(leadMinutes).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (wheel.schedule(taskId, remindAt)) {
+            scheduledCounter.increment();
+        }
+    }
+
+    private int pending() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.flowboard.service;
+
+import com.flowboard.model.ProjectFlowHistogram;
+
+import java.time.Duration;
+import java.util.List;
+
+// Log-scale buckets (each 20% wider than the previous) so percentiles are read from at most ~60 rows
+final class FlowHistogram {
+    private static final double GROWTH = 1.2;
+    private static final int MAX_BUCKET = 60;
+
+    private FlowHistogram() {
+    }
+
+    static int bucketOf(Duration duration) {
+        double hours = Math.max(0, duration.toMinutes()) / 60.0;
+        if (hours <= 1) {
+            return 0;
+        }
+        return (int) Math.min(MAX_BUCKET, Math.ceil(Math.log(hours) / Math.log(GROWTH)));
+    }
+
+    static Double percentileHours(List<ProjectFlowHistogram> buckets, long samples, double percentile) {
+        if (samples == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(samples * percentile);
+        long seen = 0;
+        for (ProjectFlowHistogram bucket : buckets) {
+            seen += bucket.getSampleCount();
+            if (seen >= rank) {
+                return representativeHours(bucket.getBucket());
+            }
+        }
+        return representativeHours(MAX_BUCKET);
+    }
+
+    // Geometric midpoint of the bucket, which keeps the relative error under 10%
+    private static double representativeHours(int bucket) {
+        double hours = bucket == 0 ? 0.5 : Math.pow(GROWTH, bucket - 0.5);
+        return Math.round(hours * 10) / 10.0;
+    }
+}
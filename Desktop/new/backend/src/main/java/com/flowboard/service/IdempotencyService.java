@@ -0,0 +1,238 @@
+package com.flowboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Replays the original result for a repeated {@code Idempotency-Key}. Keys live in a bounded
+ * in-memory map; a concurrent retry simply waits on the first attempt's future instead of locking.
+ * With persistence enabled the key is also claimed in the database inside the same transaction
+ * as the insert, so a retry landing on another replica can't create a duplicate either.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    @Value("${idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${idempotency.persistence.enabled:false}")
+    private boolean persistenceEnabled;
+
+    @Value("${idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMillis;
+
+    public <T> T execute(String idempotencyKey, String operation, Object request, Class<T> resultType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = currentUser() + "|" + operation + "|" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        Entry entry = new Entry(fingerprint, System.currentTimeMillis() + ttlSeconds * 1000);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                insertionOrder.add(key);
+                evictOverflow();
+                break;
+            }
+            if (!existing.isExpired()) {
+                return replay(existing, fingerprint, resultType);
+            }
+            if (entries.replace(key, existing, entry)) {
+                break;
+            }
+        }
+
+        try {
+            T result = persistenceEnabled
+                    ? executePersisted(key, fingerprint, resultType, action)
+                    : action.get();
+            entry.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:300000}")
+    public void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        insertionOrder.removeIf(key -> !entries.containsKey(key));
+        if (persistenceEnabled) {
+            idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        }
+    }
+
+    private <T> T executePersisted(String key, String fingerprint, Class<T> resultType, Supplier<T> action) {
+        T stored = loadPersisted(key, fingerprint, resultType);
+        if (stored != null) {
+            return stored;
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                T result = action.get();
+                LocalDateTime now = LocalDateTime.now();
+                int claimed = idempotencyRecordRepository.insertIfAbsent(
+                        key, fingerprint, toJson(result), now, now.plusSeconds(ttlSeconds));
+                if (claimed == 0) {
+                    throw new DuplicateRequestException();
+                }
+                return result;
+            });
+        } catch (DuplicateRequestException e) {
+            // Another replica finished the same request first; our insert was rolled back
+            return loadPersisted(key, fingerprint, resultType);
+        }
+    }
+
+    private <T> T loadPersisted(String key, String fingerprint, Class<T> resultType) {
+        return idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(record -> {
+                    checkFingerprint(record.getFingerprint(), fingerprint);
+                    try {
+                        return objectMapper.readValue(record.getResponseBody(), resultType);
+                    } catch (JsonProcessingException e) {
+                        throw new RuntimeException("Failed to read stored idempotent response", e);
+                    }
+                })
+                .orElse(null);
+    }
+
+    private <T> T replay(Entry existing, String fingerprint, Class<T> resultType) {
+        checkFingerprint(existing.fingerprint, fingerprint);
+        try {
+            return resultType.cast(existing.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // The first attempt is still running; free this thread and let the client retry later
+            throw new RequestInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestInProgressException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private void checkFingerprint(String stored, String fingerprint) {
+        if (!stored.equals(fingerprint)) {
+            throw new IdempotencyKeyException("Idempotency-Key was already used with a different request body");
+        }
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            String oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            Entry entry = entries.get(oldest);
+            // Never drop an attempt that is still running, retries must keep waiting on it
+            if (entry != null && entry.result.isDone()) {
+                entries.remove(oldest, entry);
+            } else if (entry != null) {
+                insertionOrder.add(oldest);
+                return;
+            }
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(toJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize idempotent request", e);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long expiresAtMillis;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiresAtMillis) {
+            this.fingerprint = fingerprint;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+
+    private static final class DuplicateRequestException extends RuntimeException {
+    }
+
+    public static class RequestInProgressException extends RuntimeException {
+        public RequestInProgressException() {
+            super("A request with this Idempotency-Key is still being processed, retry later");
+        }
+    }
+
+    public static class IdempotencyKeyException extends RuntimeException {
+        public IdempotencyKeyException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.flowboard.service;
+
+import com.flowboard.event.ActivityBatchEvent;
+import com.flowboard.model.ActivityLog;
+import com.flowboard.model.OutboxEvent;
+import com.flowboard.repository.ActivityLogRepository;
+import com.flowboard.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ActivityLogRepository activityLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.publisher.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${outbox.publisher.interval-ms:500}")
+    public void drain() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            // Rows stay in the outbox and are retried on the next run
+            log.warn("Outbox publishing failed: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<ActivityLog> entries = activityLogRepository.saveAll(events.stream()
+                .map(this::toActivityLog)
+                .toList());
+        outboxEventRepository.deleteAllInBatch(events);
+        eventPublisher.publishEvent(new ActivityBatchEvent(entries));
+        return events.size();
+    }
+
+    private ActivityLog toActivityLog(OutboxEvent event) {
+        ActivityLog entry = new ActivityLog();
+        entry.setAggregateType(event.getAggregateType());
+        entry.setAggregateId(event.getAggregateId());
+        entry.setEventType(event.getEventType());
+        entry.setActorId(event.getActorId());
+        entry.setPayload(event.getPayload());
+        entry.setOccurredAt(event.getCreatedAt());
+        return entry;
+    }
+}
@@ -0,0 +1,55 @@
+package com.flowboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.model.OutboxEvent;
+import com.flowboard.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    public static final String TASK = "TASK";
+    public static final String PROJECT = "PROJECT";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // Must join the caller's transaction so the event commits or rolls back with the change itself
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setActorId(currentUserId());
+        try {
+            event.setPayload(payload != null ? objectMapper.writeValueAsString(payload) : null);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox payload", e);
+        }
+        outboxEventRepository.save(event);
+        // Every recorded change is also a cache invalidation, broadcast when this transaction commits
+        cacheInvalidationBus.publish(aggregateType, aggregateId);
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
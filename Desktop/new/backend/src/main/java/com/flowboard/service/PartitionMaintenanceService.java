@@ -0,0 +1,162 @@
+package com.flowboard.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps monthly chat_messages partitions created ahead of time and drops whole partitions
+ * once they fall out of the retention window, which is far cheaper than deleting rows.
+ * Rows that landed in the default partition are moved into their month's partition when it is
+ * created, so they fall under retention like any other month.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+    private static final String CHAT_MESSAGES = "chat_messages";
+    private static final String DEFAULT_PARTITION = CHAT_MESSAGES + "_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong defaultRows = new AtomicLong();
+
+    @Value("${partitions.chat-messages.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 keeps every month
+    @Value("${partitions.chat-messages.retention-months:0}")
+    private int retentionMonths;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("flowboard.partitions.chat_messages.default_rows", defaultRows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${partitions.maintenance.cron:0 30 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        YearMonth oldestKept = retentionMonths > 0 ? current.minusMonths(retentionMonths - 1L) : null;
+        Set<YearMonth> months = new TreeSet<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        try {
+            months.addAll(monthsInDefaultPartition());
+        } catch (Exception e) {
+            log.warn("Could not read the {} partition: {}", DEFAULT_PARTITION, e.getMessage());
+        }
+        // One failing month must not keep the later ones from being created
+        for (YearMonth month : months) {
+            if (oldestKept != null && month.isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                createMonthlyPartition(month);
+            } catch (Exception e) {
+                log.warn("Could not create partition {}: {}", partitionName(month), e.getMessage());
+            }
+        }
+        if (oldestKept != null) {
+            try {
+                dropPartitionsBefore(oldestKept);
+            } catch (Exception e) {
+                log.warn("Could not drop expired partitions: {}", e.getMessage());
+            }
+        }
+        try {
+            long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + DEFAULT_PARTITION, Long.class);
+            defaultRows.set(rows);
+            if (rows > 0) {
+                log.warn("{} chat messages are still in {}", rows, DEFAULT_PARTITION);
+            }
+        } catch (Exception e) {
+            log.warn("Could not count the {} partition: {}", DEFAULT_PARTITION, e.getMessage());
+        }
+    }
+
+    private List<YearMonth> monthsInDefaultPartition() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT date_trunc('month', created_at)::date FROM " + DEFAULT_PARTITION, Date.class)
+                .stream()
+                .map(date -> YearMonth.from(date.toLocalDate()))
+                .toList();
+    }
+
+    /**
+     * Attaching a range the default partition already has rows for would fail, so the partition is
+     * built standalone, those rows are moved into it, and it is attached in the same transaction.
+     */
+    private void createMonthlyPartition(YearMonth month) {
+        String partition = partitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+                return;
+            }
+            jdbcTemplate.execute(String.format("CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)",
+                    partition, CHAT_MESSAGES));
+            int moved = jdbcTemplate.update(String.format(
+                    "WITH moved AS (DELETE FROM %s WHERE created_at >= ? AND created_at < ? RETURNING *) " +
+                            "INSERT INTO %s SELECT * FROM moved", DEFAULT_PARTITION, partition),
+                    from, to);
+            jdbcTemplate.execute(String.format("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                    CHAT_MESSAGES, partition, from, to));
+            if (moved > 0) {
+                log.info("Created partition {} with {} rows moved from {}", partition, moved, DEFAULT_PARTITION);
+            }
+        });
+    }
+
+    private void dropPartitionsBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? AND c.relname ~ '_[0-9]{4}_[0-9]{2}$'",
+                String.class, CHAT_MESSAGES);
+        String cutoff = partitionName(oldestKept);
+        for (String partition : partitions) {
+            // Names sort chronologically because of the zero-padded yyyy_MM suffix
+            if (partition.compareTo(cutoff) < 0) {
+                jdbcTemplate.execute("ALTER TABLE " + CHAT_MESSAGES + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped expired partition {}", partition);
+            }
+        }
+        // Expired rows that never got a partition of their own
+        int expired = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?", oldestKept.atDay(1));
+        if (expired > 0) {
+            log.info("Deleted {} expired rows from {}", expired, DEFAULT_PARTITION);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return CHAT_MESSAGES + "_" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,138 @@
+package com.flowboard.service;
+
+import com.flowboard.dto.LifecycleJob;
+import com.flowboard.repository.ArchivedTaskRepository;
+import com.flowboard.repository.ProjectRepository;
+import com.flowboard.repository.TaskRepository;
+import com.flowboard.repository.TaskStatusTransitionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Moves or removes all tasks of a project in fixed-size chunks. Each chunk is a single
+ * set-based statement in its own short transaction, so no task entity is ever loaded and
+ * a huge project never holds locks for long.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectLifecycleService {
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ProjectRepository projectRepository;
+
+    private final Map<UUID, LifecycleJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "project-lifecycle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${project.lifecycle.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${project.lifecycle.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    public LifecycleJob archive(UUID projectId) {
+        return submit(projectId, LifecycleJob.Operation.ARCHIVE, taskRepository.countByProjectId(projectId),
+                List.of(archivedTaskRepository::archiveChunk));
+    }
+
+    public LifecycleJob restore(UUID projectId) {
+        return submit(projectId, LifecycleJob.Operation.RESTORE, archivedTaskRepository.countByProjectId(projectId),
+                List.of(archivedTaskRepository::restoreChunk));
+    }
+
+    public LifecycleJob purge(UUID projectId) {
+        long total = taskRepository.countByProjectId(projectId)
+                + archivedTaskRepository.countByProjectId(projectId)
+                + transitionRepository.countByProjectId(projectId);
+        return submit(projectId, LifecycleJob.Operation.PURGE, total,
+                List.of(taskRepository::deleteChunk, archivedTaskRepository::deleteChunk, transitionRepository::deleteChunk));
+    }
+
+    public Optional<LifecycleJob> getJob(UUID projectId) {
+        return Optional.ofNullable(jobs.get(projectId));
+    }
+
+    /**
+     * Picks up work interrupted by a restart, plus tasks orphaned before cascading deletes existed.
+     * Jobs live only in memory, so each kind is recognised from what it leaves behind: a purge
+     * leaves rows of a deleted project in any of the three tables, an archive leaves live tasks of
+     * an archived project, and a restore leaves archived tasks of a project that is live again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        Set<UUID> orphaned = new LinkedHashSet<>(taskRepository.findOrphanedProjectIds());
+        orphaned.addAll(archivedTaskRepository.findOrphanedProjectIds());
+        orphaned.addAll(transitionRepository.findOrphanedProjectIds());
+        orphaned.forEach(this::purge);
+        projectRepository.findArchivedWithLiveTasks().forEach(this::archive);
+        projectRepository.findLiveWithArchivedTasks().forEach(this::restore);
+    }
+
+    // Finished jobs stay pollable for a while, then make room
+    @Scheduled(fixedDelayString = "${project.lifecycle.job-eviction-interval-ms:300000}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> !job.isActive() && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized LifecycleJob submit(UUID projectId, LifecycleJob.Operation operation, long total,
+                                             List<ToIntBiFunction<UUID, Integer>> steps) {
+        LifecycleJob current = jobs.get(projectId);
+        if (current != null && current.isActive() && current.getOperation() == operation) {
+            return current;
+        }
+        // The single worker thread runs jobs in submission order, so an archive queued before a restore finishes first
+        LifecycleJob job = new LifecycleJob(projectId, operation, total);
+        jobs.put(projectId, job);
+        executor.submit(() -> run(job, steps));
+        return job;
+    }
+
+    private void run(LifecycleJob job, List<ToIntBiFunction<UUID, Integer>> steps) {
+        job.start();
+        try {
+            for (ToIntBiFunction<UUID, Integer> step : steps) {
+                int rows;
+                do {
+                    rows = step.applyAsInt(job.getProjectId(), chunkSize);
+                    job.advance(rows);
+                } while (rows > 0);
+            }
+            job.complete();
+            log.info("{} of project {} finished: {} rows", job.getOperation(), job.getProjectId(), job.getProcessed());
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            log.warn("{} of project {} failed after {} rows: {}",
+                    job.getOperation(), job.getProjectId(), job.getProcessed(), e.getMessage());
+        }
+    }
+}
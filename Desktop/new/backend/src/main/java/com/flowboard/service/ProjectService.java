@@ -0,0 +1,78 @@
+package com.flowboard.service;
+
+import com.flowboard.model.Project;
+import com.flowboard.repository.ProjectBurndownSnapshotRepository;
+import com.flowboard.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectService {
+    private final ProjectRepository projectRepository;
+    private final OutboxService outboxService;
+    private final TaskFlowService taskFlowService;
+    private final ProjectBurndownSnapshotRepository snapshotRepository;
+    private final ProjectLifecycleService projectLifecycleService;
+
+    @Transactional
+    public Project create(Project project) {
+        Project saved = projectRepository.save(project);
+        outboxService.record(OutboxService.PROJECT, saved.getId(), "PROJECT_CREATED", saved);
+        return saved;
+    }
+
+    @Transactional
+    public Optional<Project> update(UUID id, Project project) {
+        return projectRepository.findById(id)
+                .map(existing -> {
+                    Project.Status previousStatus = existing.getStatus();
+
+                    ChangeSet changes = new ChangeSet();
+                    changes.apply("name", existing.getName(), project.getName(), existing::setName);
+                    changes.apply("description", existing.getDescription(), project.getDescription(), existing::setDescription);
+                    changes.apply("color", existing.getColor(), project.getColor(), existing::setColor);
+                    changes.apply("status", existing.getStatus(), project.getStatus(), existing::setStatus);
+
+                    Project saved = projectRepository.save(existing);
+                    if (!changes.isEmpty()) {
+                        outboxService.record(OutboxService.PROJECT, saved.getId(), "PROJECT_UPDATED", changes.toPayload());
+                    }
+                    if (saved.getStatus() == Project.Status.ARCHIVED && previousStatus != Project.Status.ARCHIVED) {
+                        afterCommit(() -> projectLifecycleService.archive(id));
+                    } else if (previousStatus == Project.Status.ARCHIVED && saved.getStatus() != Project.Status.ARCHIVED) {
+                        afterCommit(() -> projectLifecycleService.restore(id));
+                    }
+                    return saved;
+                });
+    }
+
+    @Transactional
+    public void delete(UUID id) {
+        projectRepository.findById(id).ifPresent(project -> {
+            // Removing the project row hides its tasks from hot-path reads right away; the rows follow in chunks
+            projectRepository.delete(project);
+            taskFlowService.purgeProjectStats(id);
+            snapshotRepository.purgeByProjectId(id);
+            outboxService.record(OutboxService.PROJECT, project.getId(), "PROJECT_DELETED",
+                    Map.of("name", project.getName()));
+            afterCommit(() -> projectLifecycleService.purge(id));
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
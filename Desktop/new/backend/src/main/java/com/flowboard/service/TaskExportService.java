@@ -0,0 +1,165 @@
+package com.flowboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.model.Task;
+import com.flowboard.util.Csv;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams tasks straight from a forward-only JDBC cursor to the response. Rows are fetched in
+ * fixed-size pages and written immediately, so memory use doesn't depend on how many rows match.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+    private static final String[] COLUMNS = {
+            "id", "title", "description", "status", "priority", "project_id", "assignee_id",
+            "deadline", "estimate_hours", "labels", "created_at", "updated_at", "completed_at"
+    };
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    // Bounds how many pooled connections exports can hold at once
+    private Semaphore slots;
+
+    @PostConstruct
+    void init() {
+        slots = new Semaphore(maxConcurrent);
+    }
+
+    public boolean tryAcquireSlot() {
+        return slots.tryAcquire();
+    }
+
+    public void releaseSlot() {
+        slots.release();
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public void export(OutputStream out, Format format, UUID projectId, Task.Status status,
+                       LocalDateTime createdFrom, LocalDateTime createdTo) throws IOException {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", COLUMNS))
+                .append(" FROM tasks t WHERE (t.project_id IS NULL OR t.project_id IN ")
+                .append("(SELECT p.id FROM projects p WHERE p.status <> 'ARCHIVED'))");
+        if (projectId != null) {
+            sql.append(" AND t.project_id = ?");
+            params.add(projectId);
+        }
+        if (status != null) {
+            sql.append(" AND t.status = ?");
+            params.add(status.name());
+        }
+        if (createdFrom != null) {
+            sql.append(" AND t.created_at >= ?");
+            params.add(Timestamp.valueOf(createdFrom));
+        }
+        if (createdTo != null) {
+            sql.append(" AND t.created_at < ?");
+            params.add(Timestamp.valueOf(createdTo));
+        }
+
+        // The PostgreSQL driver only uses a server-side cursor when autocommit is off and a fetch size is set
+        JdbcTemplate cursor = new JdbcTemplate(dataSource);
+        cursor.setFetchSize(fetchSize);
+
+        try {
+            if (format == Format.CSV) {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                writer.write(String.join(",", COLUMNS));
+                writer.write("\r\n");
+                transactionTemplate.executeWithoutResult(tx ->
+                        cursor.query(sql.toString(), (RowCallbackHandler) rs -> writeCsvRow(writer, rs), params.toArray()));
+                writer.flush();
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                transactionTemplate.executeWithoutResult(tx ->
+                        cursor.query(sql.toString(), (RowCallbackHandler) rs -> writeJsonRow(generator, rs), params.toArray()));
+                generator.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCsvRow(Writer writer, ResultSet rs) throws SQLException {
+        try {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(Csv.escape(rs.getString(i + 1)));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonRow(JsonGenerator generator, ResultSet rs) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("id", rs.getString("id"));
+            generator.writeStringField("title", rs.getString("title"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("priority", rs.getString("priority"));
+            generator.writeStringField("projectId", rs.getString("project_id"));
+            generator.writeStringField("assigneeId", rs.getString("assignee_id"));
+            generator.writeStringField("deadline", isoTimestamp(rs.getTimestamp("deadline")));
+            int estimate = rs.getInt("estimate_hours");
+            if (rs.wasNull()) {
+                generator.writeNullField("estimateHours");
+            } else {
+                generator.writeNumberField("estimateHours", estimate);
+            }
+            generator.writeStringField("labels", rs.getString("labels"));
+            generator.writeStringField("createdAt", isoTimestamp(rs.getTimestamp("created_at")));
+            generator.writeStringField("updatedAt", isoTimestamp(rs.getTimestamp("updated_at")));
+            generator.writeStringField("completedAt", isoTimestamp(rs.getTimestamp("completed_at")));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String isoTimestamp(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
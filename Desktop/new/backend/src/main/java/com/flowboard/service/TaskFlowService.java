@@ -0,0 +1,226 @@
+package com.flowboard.service;
+
+import com.flowboard.model.ProjectFlowHistogram;
+import com.flowboard.model.ProjectStatusTotal;
+import com.flowboard.model.ProjectWeeklyThroughput;
+import com.flowboard.model.Task;
+import com.flowboard.model.TaskStatusTransition;
+import com.flowboard.repository.ProjectFlowHistogramRepository;
+import com.flowboard.repository.ProjectStatusTotalRepository;
+import com.flowboard.repository.ProjectWeeklyThroughputRepository;
+import com.flowboard.repository.TaskRepository;
+import com.flowboard.repository.TaskStatusTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps status history and per-project flow aggregates up to date as tasks move between statuses,
+ * so reports never have to replay the tasks table.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskFlowService {
+    private static final int MAX_THROUGHPUT_WEEKS = 52;
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ProjectStatusTotalRepository statusTotalRepository;
+    private final ProjectFlowHistogramRepository histogramRepository;
+    private final ProjectWeeklyThroughputRepository throughputRepository;
+    private final AdvisoryLockService advisoryLockService;
+
+    // Stamps a new task before its first save
+    public void prepareNew(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        task.setStatusChangedAt(now);
+        task.setStartedAt(isStarted(task.getStatus()) ? now : null);
+        task.setCompletedAt(task.getStatus() == Task.Status.DONE ? now : null);
+        task.setReminderSentAt(null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Task task) {
+        adjustTotals(task.getProjectId(), task.getStatus(), task.getEstimateHours(), 1);
+        recordTransition(task, null, task.getStatusChangedAt());
+    }
+
+    // Called with the task's previous state after changes were applied but before it is saved
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUpdated(Task task, UUID previousProjectId, Task.Status previousStatus, Integer previousEstimate) {
+        boolean statusChanged = task.getStatus() != previousStatus;
+        if (statusChanged
+                || !Objects.equals(task.getProjectId(), previousProjectId)
+                || !Objects.equals(task.getEstimateHours(), previousEstimate)) {
+            adjustTotals(previousProjectId, previousStatus, previousEstimate, -1);
+            adjustTotals(task.getProjectId(), task.getStatus(), task.getEstimateHours(), 1);
+        }
+        if (statusChanged) {
+            applyTransition(task, previousStatus, LocalDateTime.now());
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Task task) {
+        adjustTotals(task.getProjectId(), task.getStatus(), task.getEstimateHours(), -1);
+    }
+
+    public List<TaskStatusTransition> getHistory(UUID taskId) {
+        return transitionRepository.findByTaskIdOrderByTransitionedAtAsc(taskId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void purgeProjectStats(UUID projectId) {
+        statusTotalRepository.purgeByProjectId(projectId);
+        histogramRepository.purgeByProjectId(projectId);
+        throughputRepository.purgeByProjectId(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getFlowMetrics(UUID projectId, int weeks) {
+        Map<Task.Status, Long> wip = new EnumMap<>(Task.Status.class);
+        for (Task.Status status : Task.Status.values()) {
+            wip.put(status, 0L);
+        }
+        for (ProjectStatusTotal total : statusTotalRepository.findByProjectId(projectId)) {
+            wip.put(total.getStatus(), total.getTaskCount());
+        }
+
+        Map<ProjectFlowHistogram.Metric, List<ProjectFlowHistogram>> histograms = new EnumMap<>(ProjectFlowHistogram.Metric.class);
+        for (ProjectFlowHistogram.Metric metric : ProjectFlowHistogram.Metric.values()) {
+            histograms.put(metric, new ArrayList<>());
+        }
+        for (ProjectFlowHistogram bucket : histogramRepository.findByProjectIdOrderByBucketAsc(projectId)) {
+            histograms.get(bucket.getMetric()).add(bucket);
+        }
+
+        LocalDate currentWeek = weekStart(LocalDate.now());
+        LocalDate from = currentWeek.minusWeeks(Math.max(1, Math.min(weeks, MAX_THROUGHPUT_WEEKS)) - 1L);
+        Map<LocalDate, Long> completedByWeek = new LinkedHashMap<>();
+        for (LocalDate week = from; !week.isAfter(currentWeek); week = week.plusWeeks(1)) {
+            completedByWeek.put(week, 0L);
+        }
+        for (ProjectWeeklyThroughput week : throughputRepository
+                .findByProjectIdAndWeekStartGreaterThanEqualOrderByWeekStartAsc(projectId, from)) {
+            completedByWeek.put(week.getWeekStart(), week.getCompletedCount());
+        }
+        List<Map<String, Object>> throughput = completedByWeek.entrySet().stream()
+                .map(week -> toThroughputPoint(week.getKey(), week.getValue()))
+                .toList();
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("projectId", projectId);
+        metrics.put("wip", wip);
+        metrics.put("leadTime", summarize(histograms.get(ProjectFlowHistogram.Metric.LEAD_TIME)));
+        metrics.put("cycleTime", summarize(histograms.get(ProjectFlowHistogram.Metric.CYCLE_TIME)));
+        metrics.put("blockedTime", summarize(histograms.get(ProjectFlowHistogram.Metric.BLOCKED_TIME)));
+        metrics.put("throughput", throughput);
+        return metrics;
+    }
+
+    // Seeds the running totals for data that predates status tracking; replicas starting together take turns
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillStatusTotals() {
+        advisoryLockService.lock("flow:status-totals-backfill");
+        if (statusTotalRepository.count() == 0 && taskRepository.existsByProjectIdNotNull()) {
+            rebuildStatusTotals();
+        }
+    }
+
+    @Transactional
+    public int rebuildStatusTotals() {
+        statusTotalRepository.deleteAllTotals();
+        return statusTotalRepository.rebuildFromTasks();
+    }
+
+    private void applyTransition(Task task, Task.Status previousStatus, LocalDateTime now) {
+        UUID projectId = task.getProjectId();
+        if (previousStatus == Task.Status.BLOCKED && task.getStatusChangedAt() != null && projectId != null) {
+            recordSample(projectId, ProjectFlowHistogram.Metric.BLOCKED_TIME, task.getStatusChangedAt(), now);
+        }
+        if (task.getStartedAt() == null && isStarted(task.getStatus())) {
+            task.setStartedAt(now);
+        }
+        if (task.getStatus() == Task.Status.DONE) {
+            task.setCompletedAt(now);
+            if (projectId != null) {
+                if (task.getCreatedAt() != null) {
+                    recordSample(projectId, ProjectFlowHistogram.Metric.LEAD_TIME, task.getCreatedAt(), now);
+                }
+                if (task.getStartedAt() != null) {
+                    recordSample(projectId, ProjectFlowHistogram.Metric.CYCLE_TIME, task.getStartedAt(), now);
+                }
+                throughputRepository.increment(projectId, weekStart(now.toLocalDate()));
+            }
+        } else if (previousStatus == Task.Status.DONE) {
+            task.setCompletedAt(null);
+        }
+        task.setStatusChangedAt(now);
+        recordTransition(task, previousStatus, now);
+    }
+
+    private void recordTransition(Task task, Task.Status previousStatus, LocalDateTime at) {
+        TaskStatusTransition transition = new TaskStatusTransition();
+        transition.setTaskId(task.getId());
+        transition.setProjectId(task.getProjectId());
+        transition.setFromStatus(previousStatus);
+        transition.setToStatus(task.getStatus());
+        transition.setTransitionedAt(at);
+        transitionRepository.save(transition);
+    }
+
+    private void recordSample(UUID projectId, ProjectFlowHistogram.Metric metric, LocalDateTime from, LocalDateTime to) {
+        histogramRepository.increment(projectId, metric.name(), FlowHistogram.bucketOf(Duration.between(from, to)));
+    }
+
+    private void adjustTotals(UUID projectId, Task.Status status, Integer estimateHours, int sign) {
+        if (projectId == null || status == null) {
+            return;
+        }
+        long hours = estimateHours != null ? estimateHours : 0;
+        statusTotalRepository.increment(projectId, status.name(), sign, sign * hours);
+    }
+
+    private Map<String, Object> summarize(List<ProjectFlowHistogram> buckets) {
+        long samples = buckets.stream().mapToLong(ProjectFlowHistogram::getSampleCount).sum();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", samples);
+        summary.put("medianHours", FlowHistogram.percentileHours(buckets, samples, 0.5));
+        summary.put("p85Hours", FlowHistogram.percentileHours(buckets, samples, 0.85));
+        return summary;
+    }
+
+    private Map<String, Object> toThroughputPoint(LocalDate weekStart, long completed) {
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("weekStart", weekStart);
+        point.put("completed", completed);
+        return point;
+    }
+
+    static boolean isStarted(Task.Status status) {
+        return status == Task.Status.IN_PROGRESS
+                || status == Task.Status.IN_REVIEW
+                || status == Task.Status.BLOCKED;
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
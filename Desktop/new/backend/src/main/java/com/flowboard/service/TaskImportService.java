@@ -0,0 +1,345 @@
+package com.flowboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.dto.TaskImportResult;
+import com.flowboard.model.Project;
+import com.flowboard.model.Task;
+import com.flowboard.repository.ProjectRepository;
+import com.flowboard.repository.ProjectStatusTotalRepository;
+import com.flowboard.repository.UserRepository;
+import com.flowboard.util.Csv;
+import com.flowboard.util.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk-loads tasks from a CSV or NDJSON upload. Rows are parsed and validated one at a time and
+ * written in batches with COPY; invalid rows are reported back instead of failing the whole import.
+ * Status totals are adjusted once per project/status and a single outbox event covers the import.
+ * Rows go in without a board position; each touched column is given keys once the import commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+    private static final String COPY_TASKS = "COPY tasks (id, title, description, status, priority, project_id, " +
+            "assignee_id, deadline, estimate_hours, labels, checklist, status_changed_at, started_at, completed_at, " +
+            "created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_TRANSITIONS = "COPY task_status_transitions " +
+            "(id, task_id, project_id, to_status, transitioned_at) FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectStatusTotalRepository statusTotalRepository;
+    private final OutboxService outboxService;
+    private final TaskPositionService taskPositionService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${import.max-errors:1000}")
+    private int maxErrors;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    @Transactional
+    public TaskImportResult importTasks(InputStream in, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        ImportRun run = new ImportRun();
+
+        if (format == Format.CSV) {
+            List<String> header = Csv.readRecord(reader);
+            if (header == null) {
+                return run.result;
+            }
+            if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+                header.set(0, header.get(0).substring(1));
+            }
+            long row = 1;
+            List<String> record;
+            while ((record = Csv.readRecord(reader)) != null) {
+                row++;
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < header.size() && i < record.size(); i++) {
+                    fields.put(normalize(header.get(i)), record.get(i));
+                }
+                run.accept(row, fields);
+            }
+        } else {
+            long row = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, String> fields;
+                try {
+                    fields = toFields(objectMapper.readTree(line));
+                } catch (IOException | IllegalArgumentException e) {
+                    run.malformed(row);
+                    continue;
+                }
+                run.accept(row, fields);
+            }
+        }
+        run.finish();
+        return run.result;
+    }
+
+    private Map<String, String> toFields(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode value = entry.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            fields.put(normalize(entry.getKey()), value.isContainerNode() ? value.toString() : value.asText());
+        }
+        return fields;
+    }
+
+    // Accepts both the export's snake_case columns and the API's camelCase fields
+    private static String normalize(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private class ImportRun {
+        private final TaskImportResult result = new TaskImportResult();
+        private final UUID importId = UuidV7.next();
+        private final LocalDateTime now = LocalDateTime.now();
+        private final List<Object[]> taskBatch = new ArrayList<>();
+        private final List<Object[]> transitionBatch = new ArrayList<>();
+        private final Map<UUID, String> projectProblems = new HashMap<>();
+        private final Map<UUID, Boolean> knownUsers = new HashMap<>();
+        private final Map<UUID, Map<Task.Status, long[]>> totals = new LinkedHashMap<>();
+        private final Set<TaskPositionService.Column> columns = new HashSet<>();
+
+        void accept(long row, Map<String, String> fields) {
+            result.setRowsRead(result.getRowsRead() + 1);
+            try {
+                add(fields);
+            } catch (IllegalArgumentException e) {
+                reject(row, e.getMessage());
+            }
+        }
+
+        void malformed(long row) {
+            result.setRowsRead(result.getRowsRead() + 1);
+            reject(row, "malformed JSON");
+        }
+
+        private void reject(long row, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxErrors) {
+                result.getErrors().add(new TaskImportResult.RowError(row, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        private void add(Map<String, String> fields) {
+            String title = text(fields, "title");
+            if (title == null) {
+                throw new IllegalArgumentException("title is required");
+            }
+            if (title.length() > 255) {
+                throw new IllegalArgumentException("title is longer than 255 characters");
+            }
+            Task.Status status = enumValue(Task.Status.class, text(fields, "status"), Task.Status.TODO, "status");
+            Task.Priority priority = enumValue(Task.Priority.class, text(fields, "priority"), Task.Priority.MEDIUM, "priority");
+            UUID projectId = uuid(fields, "projectid");
+            UUID assigneeId = uuid(fields, "assigneeid");
+            LocalDateTime deadline = dateTime(text(fields, "deadline"));
+            Integer estimateHours = estimate(text(fields, "estimatehours"));
+
+            if (projectId != null) {
+                // Share-locked like TaskService does, so an archive cannot start until the import commits
+                String problem = projectProblems.computeIfAbsent(projectId, id -> projectRepository.lockStatusById(id)
+                        .map(projectStatus -> Project.Status.ARCHIVED.name().equals(projectStatus) ? "is archived" : "")
+                        .orElse("does not exist"));
+                if (!problem.isEmpty()) {
+                    throw new IllegalArgumentException("project " + projectId + " " + problem);
+                }
+            }
+            if (assigneeId != null && !knownUsers.computeIfAbsent(assigneeId, userRepository::existsById)) {
+                throw new IllegalArgumentException("assignee " + assigneeId + " does not exist");
+            }
+
+            UUID id = UuidV7.next();
+            Timestamp at = Timestamp.valueOf(now);
+            boolean started = TaskFlowService.isStarted(status);
+            taskBatch.add(new Object[]{
+                    id, title, text(fields, "description"), status.name(), priority.name(), projectId, assigneeId,
+                    deadline != null ? Timestamp.valueOf(deadline) : null, estimateHours, text(fields, "labels"),
+                    text(fields, "checklist"), at, started ? at : null, status == Task.Status.DONE ? at : null, at, at
+            });
+            transitionBatch.add(new Object[]{UuidV7.next(), id, projectId, status.name(), at});
+            columns.add(new TaskPositionService.Column(projectId, status));
+
+            if (projectId != null) {
+                long[] total = totals.computeIfAbsent(projectId, p -> new HashMap<>())
+                        .computeIfAbsent(status, s -> new long[2]);
+                total[0]++;
+                total[1] += estimateHours != null ? estimateHours : 0;
+            }
+            if (taskBatch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (taskBatch.isEmpty()) {
+                return;
+            }
+            copy(COPY_TASKS, taskBatch);
+            copy(COPY_TRANSITIONS, transitionBatch);
+            result.setImported(result.getImported() + taskBatch.size());
+            taskBatch.clear();
+            transitionBatch.clear();
+        }
+
+        // Runs on the transaction's own connection, so the rows commit or roll back with the rest of the import
+        private void copy(String sql, List<Object[]> rows) {
+            StringBuilder csv = new StringBuilder(rows.size() * 256);
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        csv.append(',');
+                    }
+                    // Unquoted empty is NULL in COPY's CSV format, so every value is quoted
+                    if (row[i] != null) {
+                        csv.append('"').append(row[i].toString().replace("\"", "\"\"")).append('"');
+                    }
+                }
+                csv.append('\n');
+            }
+            jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+                try {
+                    return con.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        void finish() {
+            flush();
+            if (result.getImported() == 0) {
+                return;
+            }
+            totals.forEach((projectId, byStatus) -> byStatus.forEach((status, total) ->
+                    statusTotalRepository.increment(projectId, status.name(), total[0], total[1])));
+            columns.forEach(taskPositionService::rebalanceAfterCommit);
+            knownUsers.forEach((userId, exists) -> {
+                if (exists) {
+                    cacheInvalidationBus.publish(CacheInvalidationBus.ASSIGNEE, userId);
+                }
+            });
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("imported", result.getImported());
+            payload.put("failed", result.getFailed());
+            payload.put("projectIds", totals.keySet());
+            outboxService.record(OutboxService.TASK, importId, "TASKS_IMPORTED", payload);
+        }
+    }
+
+    private static String text(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static UUID uuid(Map<String, String> fields, String name) {
+        String value = text(fields, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " is not a valid UUID: " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value, E fallback, String name) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + name + ": " + value);
+        }
+    }
+
+    private static LocalDateTime dateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value.length() <= 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            // Also takes the export's "yyyy-MM-dd HH:mm:ss[.ffffff]" form
+            return LocalDateTime.parse(value.charAt(10) == ' ' ? value.substring(0, 10) + 'T' + value.substring(11) : value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid deadline: " + value);
+        }
+    }
+
+    private static Integer estimate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            int hours = Integer.parseInt(value);
+            if (hours < 0) {
+                throw new IllegalArgumentException("estimateHours must not be negative");
+            }
+            return hours;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid estimateHours: " + value);
+        }
+    }
+}
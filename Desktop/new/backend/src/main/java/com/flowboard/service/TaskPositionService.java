@@ -0,0 +1,259 @@
+package com.flowboard.service;
+
+import com.flowboard.model.Task;
+import com.flowboard.util.FractionalIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Orders tasks within a board column (project and status) by a {@link FractionalIndex} key, so a
+ * drag-and-drop move writes only the moved task. Keys grow a little with every insert into the
+ * same gap; once one passes {@code positions.rebalance-length} the column is rewritten with short,
+ * evenly spaced keys on a background thread. Moves and rebalances take the column's
+ * transaction-scoped advisory lock first, so they always read keys from the committed key space.
+ * Appends deliberately skip it to keep task creation off a per-column lock: two concurrent appends
+ * can get the same key, which still sorts them by creation time, and the next move next to either
+ * card schedules a rebalance that gives them distinct keys.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskPositionService {
+    private static final String BOARD_ORDER = "position NULLS LAST, created_at, id";
+    private static final int REBALANCE_CHUNK = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-position-rebalance");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${positions.rebalance-length:24}")
+    private int rebalanceLength;
+
+    public record Column(UUID projectId, Task.Status status) {
+    }
+
+    public static class PositionConflictException extends RuntimeException {
+        public PositionConflictException(String message) {
+            super(message);
+        }
+    }
+
+    // Places a task after the last card of its column; called before the task is saved. Unlocked, see above
+    public void appendToColumn(Task task) {
+        Column column = new Column(task.getProjectId(), task.getStatus());
+        String last = queryKey("SELECT MAX(position) FROM tasks WHERE " + where(column), column);
+        assign(task, column, FractionalIndex.after(last));
+    }
+
+    /**
+     * Places a task in its current column directly after {@code afterId}, or directly before
+     * {@code beforeId} when no after-neighbour is given, or at the end when neither is. The real
+     * neighbour on the other side is read from the database, so a client with a stale view can
+     * never produce an out-of-order key. Must run inside the caller's transaction.
+     */
+    public void placeBetween(Task task, UUID afterId, UUID beforeId) {
+        Column column = new Column(task.getProjectId(), task.getStatus());
+        lockColumn(column);
+        String key = tryKeyBetween(task, column, afterId, beforeId);
+        if (key == null) {
+            // A neighbour has no key yet (data predating positions, or an import whose rebalance hasn't
+            // run). Rewriting the column here would hold all of its rows until this move commits, so
+            // go to the end of the keyed cards, the nearest slot a key can express, and rewrite after commit
+            key = tryKeyBetween(task, column, null, null);
+            if (key == null) {
+                throw new PositionConflictException("Could not place task between its neighbours");
+            }
+            rebalanceAfterCommit(column);
+        }
+        assign(task, column, key);
+    }
+
+    /** Rewrites a column's keys once the current transaction commits, or right away outside one. */
+    public void rebalanceAfterCommit(Column column) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebalanceLater(column);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebalanceLater(column);
+            }
+        });
+    }
+
+    // Gives keys to tasks that predate positions or arrived through a bulk path without one
+    @EventListener(ApplicationReadyEvent.class)
+    public void assignMissingPositions() {
+        List<Column> columns = jdbcTemplate.query(
+                "SELECT DISTINCT project_id, status FROM tasks WHERE position IS NULL",
+                (rs, i) -> new Column(rs.getObject("project_id", UUID.class), Task.Status.valueOf(rs.getString("status"))));
+        columns.forEach(this::rebalanceLater);
+        if (!columns.isEmpty()) {
+            log.info("Assigning board positions in {} columns", columns.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void rebalanceLater(Column column) {
+        if (!pending.add(column)) {
+            return;
+        }
+        executor.submit(() -> {
+            pending.remove(column);
+            try {
+                Integer rows = transactionTemplate.execute(status -> rebalanceColumn(column));
+                log.debug("Rebalanced {} positions in {}", rows, column);
+            } catch (Exception e) {
+                log.warn("Failed to rebalance positions in {}: {}", column, e.getMessage());
+            }
+        });
+    }
+
+    // Joins the caller's transaction and holds the column lock until it commits
+    private int rebalanceColumn(Column column) {
+        lockColumn(column);
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE " + where(column) + " ORDER BY " + BOARD_ORDER,
+                UUID.class, args(column).toArray());
+        List<String> keys = FractionalIndex.evenlySpaced(ids.size());
+        // Set-based chunks: one statement per chunk instead of one round trip per row
+        for (int from = 0; from < ids.size(); from += REBALANCE_CHUNK) {
+            int to = Math.min(from + REBALANCE_CHUNK, ids.size());
+            Object[] chunkIds = ids.subList(from, to).toArray();
+            Object[] chunkKeys = keys.subList(from, to).toArray();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement("UPDATE tasks t SET position = k.position " +
+                        "FROM unnest(?, ?) AS k(id, position) WHERE t.id = k.id AND t.status = ?");
+                ps.setArray(1, con.createArrayOf("uuid", chunkIds));
+                ps.setArray(2, con.createArrayOf("text", chunkKeys));
+                ps.setString(3, column.status().name());
+                return ps;
+            });
+        }
+        // Reordered boards must not be served from a cached listing
+        cacheInvalidationBus.publish(OutboxService.PROJECT, column.projectId());
+        return ids.size();
+    }
+
+    // Serializes moves and rebalances in one column until the transaction ends
+    private void lockColumn(Column column) {
+        UUID projectId = column.projectId();
+        long key = projectId == null ? 0 : projectId.getMostSignificantBits() ^ projectId.getLeastSignificantBits();
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", key * 31 + column.status().ordinal());
+    }
+
+    private String tryKeyBetween(Task task, Column column, UUID afterId, UUID beforeId) {
+        try {
+            return keyBetween(task, column, afterId, beforeId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Returns null when the anchor has no key yet; a key shared with an unlocked append is resolved after commit
+    private String keyBetween(Task task, Column column, UUID afterId, UUID beforeId) {
+        String where = where(column) + " AND id <> ?";
+        if (afterId != null) {
+            String lower = anchorKey(task, column, afterId);
+            if (lower == null) {
+                return null;
+            }
+            String upper = queryKey("SELECT MIN(position) FROM tasks WHERE " + where + " AND position > ?",
+                    column, task.getId(), lower);
+            return FractionalIndex.between(lower, upper);
+        }
+        if (beforeId != null) {
+            String upper = anchorKey(task, column, beforeId);
+            if (upper == null) {
+                return null;
+            }
+            String lower = queryKey("SELECT MAX(position) FROM tasks WHERE " + where + " AND position < ?",
+                    column, task.getId(), upper);
+            return FractionalIndex.between(lower, upper);
+        }
+        return FractionalIndex.after(queryKey("SELECT MAX(position) FROM tasks WHERE " + where, column, task.getId()));
+    }
+
+    private String anchorKey(Task task, Column column, UUID anchorId) {
+        if (anchorId.equals(task.getId())) {
+            throw new PositionConflictException("A task cannot be placed next to itself");
+        }
+        List<Object> args = args(column);
+        args.add(anchorId);
+        List<String> keys = jdbcTemplate.queryForList(
+                "SELECT position FROM tasks WHERE " + where(column) + " AND id = ?", String.class, args.toArray());
+        if (keys.isEmpty()) {
+            throw new PositionConflictException("Task " + anchorId + " is not in the target column");
+        }
+        String key = keys.get(0);
+        if (key != null && Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM tasks WHERE "
+                + where(column) + " AND position = ? AND id <> ?)", Boolean.class, args(column, key, anchorId)))) {
+            // Two appends raced to the same key; the moved card may land past the twin until the rewrite
+            rebalanceAfterCommit(column);
+        }
+        return key;
+    }
+
+    private void assign(Task task, Column column, String key) {
+        task.setPosition(key);
+        if (key.length() > rebalanceLength) {
+            rebalanceAfterCommit(column);
+        }
+    }
+
+    private String queryKey(String sql, Column column, Object... extra) {
+        return jdbcTemplate.queryForObject(sql, String.class, args(column, extra));
+    }
+
+    // Separate forms for the null project keep every lookup on the (project_id, status, position) index
+    private static String where(Column column) {
+        return (column.projectId() == null ? "project_id IS NULL" : "project_id = ?") + " AND status = ?";
+    }
+
+    private static Object[] args(Column column, Object... extra) {
+        List<Object> args = args(column);
+        for (Object arg : extra) {
+            args.add(arg);
+        }
+        return args.toArray();
+    }
+
+    private static List<Object> args(Column column) {
+        List<Object> args = new ArrayList<>(4);
+        if (column.projectId() != null) {
+            args.add(column.projectId());
+        }
+        args.add(column.status().name());
+        return args;
+    }
+}
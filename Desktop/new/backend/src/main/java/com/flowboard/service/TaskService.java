@@ -0,0 +1,174 @@
+package com.flowboard.service;
+
+import com.flowboard.model.Project;
+import com.flowboard.model.Task;
+import com.flowboard.repository.ProjectRepository;
+import com.flowboard.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskService {
+    private final TaskRepository taskRepository;
+    private final OutboxService outboxService;
+    private final TaskFlowService taskFlowService;
+    private final TaskPositionService taskPositionService;
+    private final ProjectRepository projectRepository;
+    private final AdvisoryLockService advisoryLockService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public static class ProjectArchivedException extends RuntimeException {
+        public ProjectArchivedException(UUID projectId) {
+            super("Project " + projectId + " is archived");
+        }
+    }
+
+    @Transactional
+    public Task create(Task task) {
+        requireLiveProject(task.getProjectId());
+        taskFlowService.prepareNew(task);
+        taskPositionService.appendToColumn(task);
+        Task saved = taskRepository.save(task);
+        taskFlowService.onCreated(saved);
+        outboxService.record(OutboxService.TASK, saved.getId(), "TASK_CREATED", saved);
+        touchAssignees(saved.getAssigneeId());
+        return saved;
+    }
+
+    @Transactional
+    public Optional<Task> update(UUID id, Task task) {
+        return findLocked(id)
+                .map(existing -> {
+                    if (task.getProjectId() != null && !task.getProjectId().equals(existing.getProjectId())) {
+                        requireLiveProject(task.getProjectId());
+                    }
+                    Snapshot previous = Snapshot.of(existing);
+                    ChangeSet changes = new ChangeSet();
+                    changes.apply("title", existing.getTitle(), task.getTitle(), existing::setTitle);
+                    changes.apply("description", existing.getDescription(), task.getDescription(), existing::setDescription);
+                    changes.apply("status", existing.getStatus(), task.getStatus(), existing::setStatus);
+                    changes.apply("priority", existing.getPriority(), task.getPriority(), existing::setPriority);
+                    changes.apply("assigneeId", existing.getAssigneeId(), task.getAssigneeId(), existing::setAssigneeId);
+                    changes.apply("projectId", existing.getProjectId(), task.getProjectId(), existing::setProjectId);
+                    changes.apply("deadline", existing.getDeadline(), task.getDeadline(), existing::setDeadline);
+                    changes.apply("estimateHours", existing.getEstimateHours(), task.getEstimateHours(), existing::setEstimateHours);
+
+                    if (existing.getStatus() != previous.status()
+                            || !Objects.equals(existing.getProjectId(), previous.projectId())) {
+                        taskPositionService.appendToColumn(existing);
+                    }
+                    return save(existing, previous, changes);
+                });
+    }
+
+    /**
+     * Drag-and-drop: optionally moves the task to another status column, then places it next to
+     * the given neighbour. Only the moved task's row is written.
+     */
+    @Transactional
+    public Optional<Task> move(UUID id, Task.Status status, UUID afterId, UUID beforeId) {
+        return findLocked(id)
+                .map(existing -> {
+                    Snapshot previous = Snapshot.of(existing);
+                    ChangeSet changes = new ChangeSet();
+                    changes.apply("status", existing.getStatus(), status, existing::setStatus);
+                    String previousPosition = existing.getPosition();
+                    taskPositionService.placeBetween(existing, afterId, beforeId);
+                    if (!changes.isEmpty()) {
+                        return save(existing, previous, changes);
+                    }
+                    // A reorder within a column changes no tracked field, so it gets its own event
+                    Task saved = taskRepository.save(existing);
+                    if (!Objects.equals(previousPosition, saved.getPosition())) {
+                        Map<String, Object> payload = new HashMap<>();
+                        payload.put("projectId", saved.getProjectId());
+                        payload.put("status", saved.getStatus());
+                        payload.put("position", saved.getPosition());
+                        outboxService.record(OutboxService.TASK, saved.getId(), "TASK_MOVED", payload);
+                    }
+                    return saved;
+                });
+    }
+
+    /**
+     * Loads a task for a write that derives flow totals and transitions from its previous state, so
+     * two writers of one task must not both read the same previous status. An advisory lock rather
+     * than FOR UPDATE: a row lock fails outright once a concurrent update has moved the row to the
+     * other status partition.
+     */
+    private Optional<Task> findLocked(UUID id) {
+        advisoryLockService.lock("task:" + id);
+        return taskRepository.findById(id);
+    }
+
+    // Archived projects keep their tasks in archived_tasks, so nothing new may land in the hot table
+    private void requireLiveProject(UUID projectId) {
+        if (projectId != null && projectRepository.lockStatusById(projectId)
+                .filter(Project.Status.ARCHIVED.name()::equals)
+                .isPresent()) {
+            throw new ProjectArchivedException(projectId);
+        }
+    }
+
+    private Task save(Task existing, Snapshot previous, ChangeSet changes) {
+        taskFlowService.onUpdated(existing, previous.projectId(), previous.status(), previous.estimateHours());
+        Task saved = taskRepository.save(existing);
+        if (!Objects.equals(saved.getDeadline(), previous.deadline())) {
+            // A moved deadline earns a fresh reminder; the entity save never touches the claim column
+            taskRepository.clearReminderSentAt(saved.getId());
+            saved.setReminderSentAt(null);
+        }
+        if (!changes.isEmpty()) {
+            outboxService.record(OutboxService.TASK, saved.getId(), "TASK_UPDATED", changes.toPayload());
+            touchAssignees(saved.getAssigneeId(), previous.assigneeId());
+        }
+        if (saved.getStatus() == Task.Status.DONE && previous.status() != Task.Status.DONE) {
+            outboxService.record(OutboxService.TASK, saved.getId(), UserPointsService.TASK_COMPLETED,
+                    UserPointsService.payload(saved));
+        } else if (previous.status() == Task.Status.DONE && saved.getStatus() != Task.Status.DONE) {
+            outboxService.record(OutboxService.TASK, saved.getId(), UserPointsService.TASK_REOPENED,
+                    UserPointsService.payload(saved));
+        }
+        return saved;
+    }
+
+    @Transactional
+    public void delete(UUID id) {
+        findLocked(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            taskFlowService.onDeleted(task);
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("title", task.getTitle());
+            payload.put("projectId", task.getProjectId());
+            outboxService.record(OutboxService.TASK, task.getId(), "TASK_DELETED", payload);
+            touchAssignees(task.getAssigneeId());
+        });
+    }
+
+    // Per-user caches built from assigned work (e.g. chatbot contexts) drop only these users
+    private void touchAssignees(UUID... assigneeIds) {
+        for (UUID assigneeId : assigneeIds) {
+            if (assigneeId != null) {
+                cacheInvalidationBus.publish(CacheInvalidationBus.ASSIGNEE, assigneeId);
+            }
+        }
+    }
+
+    // Fields whose old values drive flow stats, reminders, points and cache invalidation after an update
+    private record Snapshot(UUID projectId, Task.Status status, Integer estimateHours, LocalDateTime deadline,
+                            UUID assigneeId) {
+        static Snapshot of(Task task) {
+            return new Snapshot(task.getProjectId(), task.getStatus(), task.getEstimateHours(), task.getDeadline(),
+                    task.getAssigneeId());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.flowboard.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by an identifier. Level {@code i} has {@code wheelSize} slots of
+ * {@code tickMs * wheelSize^i} each, so scheduling and cancelling are O(1) and each timer is only
+ * moved once per level as its expiry approaches. Not thread-safe; callers synchronize.
+ */
+class TimingWheel<K> {
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Timer<K>>> slots;
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTick;
+
+    private static final class Timer<K> {
+        private final K key;
+        private final long dueTick;
+        private boolean cancelled;
+
+        private Timer(K key, long dueTick) {
+            this.key = key;
+            this.dueTick = dueTick;
+        }
+    }
+
+    TimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels];
+        this.slots = new ArrayList<>(levels * wheelSize);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span *= wheelSize;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    long horizonMs() {
+        return spans[spans.length - 1] * wheelSize * tickMs;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    /**
+     * Schedules or reschedules {@code key}. Returns false when the expiry is beyond the wheel's
+     * horizon; such keys are expected to be offered again later.
+     */
+    boolean schedule(K key, long expiresAtMs) {
+        cancel(key);
+        long dueTick = Math.max(currentTick + 1, (expiresAtMs + tickMs - 1) / tickMs);
+        if (dueTick - currentTick >= spans[spans.length - 1] * wheelSize) {
+            return false;
+        }
+        Timer<K> timer = new Timer<>(key, dueTick);
+        timers.put(key, timer);
+        place(timer);
+        return true;
+    }
+
+    void cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer != null) {
+            timer.cancelled = true;
+        }
+    }
+
+    void clear() {
+        timers.clear();
+        slots.forEach(List::clear);
+    }
+
+    /** Moves the wheel forward to {@code nowMs} and returns the keys that expired on the way. */
+    List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    List<Timer<K>> slot = slot(level, currentTick);
+                    List<Timer<K>> cascading = new ArrayList<>(slot);
+                    slot.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+            List<Timer<K>> slot = slot(0, currentTick);
+            List<Timer<K>> due = new ArrayList<>(slot);
+            slot.clear();
+            for (Timer<K> timer : due) {
+                if (timer.cancelled) {
+                    continue;
+                }
+                if (timer.dueTick <= currentTick) {
+                    timers.remove(timer.key);
+                    expired.add(timer.key);
+                } else {
+                    place(timer);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void place(Timer<K> timer) {
+        if (timer.cancelled) {
+            return;
+        }
+        long delta = Math.max(0, timer.dueTick - currentTick);
+        int level = 0;
+        while (level < spans.length - 1 && delta >= spans[level] * wheelSize) {
+            level++;
+        }
+        slot(level, timer.dueTick).add(timer);
+    }
+
+    private List<Timer<K>> slot(int level, long tick) {
+        return slots.get(level * wheelSize + (int) ((tick / spans[level]) % wheelSize));
+    }
+}
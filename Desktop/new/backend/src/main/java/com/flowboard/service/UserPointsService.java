@@ -0,0 +1,198 @@
+package com.flowboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowboard.event.ActivityBatchEvent;
+import com.flowboard.model.ActivityLog;
+import com.flowboard.model.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains {@code users.total_points} and {@code users.rank} from task completion events. Runs
+ * inside the outbox drain transaction, so an event's points are applied together with its removal
+ * from the outbox, and all completions for a user in one drained batch collapse into a single
+ * atomic increment. Each award is kept in {@code task_point_awards} so a reopen takes back exactly
+ * what was given, from whoever received it; tasks that never earned points (e.g. created or
+ * imported as done) lose nothing.
+ *
+ * <p>Replicas drain disjoint outbox batches in parallel, so a task's reopen can be processed before
+ * the completion it undoes. Events for one task are therefore applied under a per-task advisory
+ * lock, and the task's row records when the last applied event occurred (a reopen leaves a
+ * tombstone rather than deleting it); an event older than that is skipped. Event times come from
+ * {@code outbox_events.created_at}, and TaskService records a task's status events under that
+ * task's lock, so they are ordered as long as replica clocks agree more closely than two
+ * consecutive status changes of one task are apart.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPointsService {
+    public static final String TASK_COMPLETED = "TASK_COMPLETED";
+    public static final String TASK_REOPENED = "TASK_REOPENED";
+
+    // Ordered from the highest threshold down
+    private static final List<Map.Entry<Integer, String>> RANKS = List.of(
+            Map.entry(5000, "diamond"),
+            Map.entry(1500, "platinum"),
+            Map.entry(500, "gold"),
+            Map.entry(100, "silver"),
+            Map.entry(0, "bronze"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AdvisoryLockService advisoryLockService;
+
+    @Value("${points.priority.low:5}")
+    private int lowPoints;
+
+    @Value("${points.priority.medium:10}")
+    private int mediumPoints;
+
+    @Value("${points.priority.high:20}")
+    private int highPoints;
+
+    @Value("${points.priority.critical:30}")
+    private int criticalPoints;
+
+    // Payload recorded with TASK_COMPLETED / TASK_REOPENED so the award doesn't need to re-read the task
+    public static Map<String, Object> payload(Task task) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("assigneeId", task.getAssigneeId());
+        payload.put("priority", task.getPriority());
+        payload.put("projectId", task.getProjectId());
+        return payload;
+    }
+
+    // Deliberately not a @TransactionalEventListener: points must commit or roll back with the drained batch
+    @EventListener
+    public void onActivity(ActivityBatchEvent event) {
+        Map<UUID, Integer> deltas = new LinkedHashMap<>();
+        for (ActivityLog entry : event.entries()) {
+            if (TASK_COMPLETED.equals(entry.getEventType())) {
+                award(entry, deltas);
+            } else if (TASK_REOPENED.equals(entry.getEventType())) {
+                revoke(entry, deltas);
+            }
+        }
+        deltas.forEach((userId, delta) -> {
+            if (delta != 0) {
+                apply(userId, delta);
+            }
+        });
+    }
+
+    private void award(ActivityLog entry, Map<UUID, Integer> deltas) {
+        if (entry.getPayload() == null) {
+            return;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(entry.getPayload());
+            if (!payload.hasNonNull("assigneeId")) {
+                return;
+            }
+            UUID assigneeId = UUID.fromString(payload.get("assigneeId").asText());
+            int points = pointsFor(Task.Priority.valueOf(payload.path("priority").asText("MEDIUM")));
+            Map<String, Object> current = lockAward(entry.getAggregateId());
+            if (isStale(current, entry)) {
+                return;
+            }
+            if (current != null && current.get("revoked_at") == null) {
+                // A task holds at most one award; a repeated completion without a reopen earns nothing more
+                jdbcTemplate.update("UPDATE task_point_awards SET last_event_at = ? WHERE task_id = ?",
+                        entry.getOccurredAt(), entry.getAggregateId());
+                return;
+            }
+            jdbcTemplate.update("INSERT INTO task_point_awards (task_id, user_id, points, awarded_at, revoked_at, last_event_at) " +
+                    "VALUES (?, ?, ?, now(), NULL, ?) ON CONFLICT (task_id) DO UPDATE SET user_id = EXCLUDED.user_id, " +
+                    "points = EXCLUDED.points, awarded_at = EXCLUDED.awarded_at, revoked_at = NULL, " +
+                    "last_event_at = EXCLUDED.last_event_at",
+                    entry.getAggregateId(), assigneeId, points, entry.getOccurredAt());
+            deltas.merge(assigneeId, points, Integer::sum);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Skipping malformed {} event {}: {}", entry.getEventType(), entry.getId(), e.getMessage());
+        }
+    }
+
+    private void revoke(ActivityLog entry, Map<UUID, Integer> deltas) {
+        Map<String, Object> current = lockAward(entry.getAggregateId());
+        if (isStale(current, entry)) {
+            return;
+        }
+        if (current != null && current.get("revoked_at") == null && current.get("user_id") != null) {
+            deltas.merge((UUID) current.get("user_id"), -((Number) current.get("points")).intValue(), Integer::sum);
+        }
+        // Tombstone even when nothing was awarded, so a completion drained after this reopen is ignored
+        jdbcTemplate.update("INSERT INTO task_point_awards (task_id, points, revoked_at, last_event_at) " +
+                "VALUES (?, 0, now(), ?) ON CONFLICT (task_id) DO UPDATE SET revoked_at = EXCLUDED.revoked_at, " +
+                "last_event_at = EXCLUDED.last_event_at",
+                entry.getAggregateId(), entry.getOccurredAt());
+    }
+
+    // Serializes a task's events across replicas; the lock is held until the drain transaction ends
+    private Map<String, Object> lockAward(UUID taskId) {
+        advisoryLockService.lock("points:" + taskId);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT user_id, points, revoked_at, last_event_at FROM task_point_awards WHERE task_id = ?", taskId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static boolean isStale(Map<String, Object> current, ActivityLog entry) {
+        if (current == null) {
+            return false;
+        }
+        LocalDateTime lastEventAt = ((Timestamp) current.get("last_event_at")).toLocalDateTime();
+        if (!lastEventAt.isBefore(entry.getOccurredAt())) {
+            log.debug("Ignoring {} for task {}: a later event was already applied", entry.getEventType(),
+                    entry.getAggregateId());
+            return true;
+        }
+        return false;
+    }
+
+    private void apply(UUID userId, int delta) {
+        List<Map<String, Object>> updated = jdbcTemplate.queryForList(
+                "UPDATE users SET total_points = GREATEST(COALESCE(total_points, 0) + ?, 0) WHERE id = ? " +
+                        "RETURNING total_points, rank",
+                delta, userId);
+        if (updated.isEmpty()) {
+            return;
+        }
+        int total = ((Number) updated.get(0).get("total_points")).intValue();
+        String rank = rankFor(total);
+        // Only touch rank when the new total lands in a different band
+        if (!rank.equals(updated.get(0).get("rank"))) {
+            jdbcTemplate.update("UPDATE users SET rank = ? WHERE id = ?", rank, userId);
+        }
+    }
+
+    private int pointsFor(Task.Priority priority) {
+        return switch (priority) {
+            case LOW -> lowPoints;
+            case MEDIUM -> mediumPoints;
+            case HIGH -> highPoints;
+            case CRITICAL -> criticalPoints;
+        };
+    }
+
+    static String rankFor(int points) {
+        for (Map.Entry<Integer, String> rank : RANKS) {
+            if (points >= rank.getKey()) {
+                return rank.getValue();
+            }
+        }
+        return "bronze";
+    }
+}
@@ -0,0 +1,111 @@
+package com.flowboard.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base-62 fractional keys for ordering items in a list. A key is read as the digits after a
+ * "decimal" point, so there is always room for another key between any two, and moving an item
+ * only ever rewrites that item's key. Digits are in ASCII order and keys never end in the zero
+ * digit, so plain byte-wise comparison (e.g. a {@code COLLATE "C"} column) sorts them correctly.
+ */
+public final class FractionalIndex {
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * Returns a key strictly between {@code before} and {@code after}, either of which may be null
+     * for the start or end of the list.
+     */
+    public static String between(String before, String after) {
+        String lower = before != null ? before : "";
+        validate(lower);
+        if (after != null) {
+            validate(after);
+            if (after.isEmpty() || lower.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("Keys out of order: " + before + " >= " + after);
+            }
+        }
+        return midpoint(lower, after);
+    }
+
+    /** Returns a short key greater than {@code key}, for appending to the end of a list. */
+    public static String after(String key) {
+        if (key == null || key.isEmpty()) {
+            return between(null, null);
+        }
+        validate(key);
+        // Counts up in the last digit (carrying past trailing maximum digits), so a run of appends
+        // keeps the key's length until that whole range is used up
+        for (int i = key.length() - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(key.charAt(i));
+            if (digit < BASE - 1) {
+                return key.substring(0, i) + DIGITS.charAt(digit + 1);
+            }
+        }
+        return key + DIGITS.charAt(BASE / 2);
+    }
+
+    /** Returns {@code count} ascending keys of equal length spread evenly over the key space. */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        // Leave a few free digits between neighbours so the next moves stay short
+        while (space / (count + 1L) < BASE && width < 10) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1L);
+        List<String> keys = new ArrayList<>(count);
+        char[] digits = new char[width];
+        for (int i = 1; i <= count; i++) {
+            long value = step * i;
+            for (int d = width - 1; d >= 0; d--) {
+                digits[d] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int length = width;
+            while (digits[length - 1] == DIGITS.charAt(0)) {
+                length--;
+            }
+            keys.add(new String(digits, 0, length));
+        }
+        return keys;
+    }
+
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            // Copy the common prefix, treating missing digits of the lower key as zeros
+            int n = 0;
+            while ((n < lower.length() ? lower.charAt(n) : DIGITS.charAt(0)) == upper.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return upper.substring(0, n) + midpoint(lower.substring(Math.min(n, lower.length())), upper.substring(n));
+            }
+        }
+        int lowDigit = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int highDigit = upper != null ? DIGITS.indexOf(upper.charAt(0)) : BASE;
+        if (highDigit - lowDigit > 1) {
+            return String.valueOf(DIGITS.charAt((lowDigit + highDigit + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(lowDigit) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static void validate(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid position key: " + key);
+            }
+        }
+        if (!key.isEmpty() && key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            throw new IllegalArgumentException("Position key must not end in " + DIGITS.charAt(0) + ": " + key);
+        }
+    }
+}
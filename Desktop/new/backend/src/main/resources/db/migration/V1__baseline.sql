@@ -0,0 +1,61 @@
+-- Baseline schema, equivalent to what ddl-auto=update produced before migrations took over:
+-- only the original users, projects, tasks and chat_messages tables. Databases created by
+-- Hibernate are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id uuid NOT NULL,
+    email varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    full_name varchar(255),
+    job_role varchar(255),
+    avatar_url varchar(255),
+    role varchar(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    language varchar(2),
+    theme varchar(255),
+    total_points integer,
+    rank varchar(255),
+    notifications_enabled boolean,
+    sound_enabled boolean,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id uuid NOT NULL,
+    name varchar(255) NOT NULL,
+    description text,
+    color varchar(255),
+    status varchar(255) NOT NULL CHECK (status IN ('ACTIVE', 'ARCHIVED', 'ON_HOLD')),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    id uuid NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    status varchar(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    priority varchar(255) NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'CRITICAL')),
+    project_id uuid,
+    assignee_id uuid,
+    deadline timestamp(6),
+    estimate_hours integer,
+    labels text,
+    checklist text,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE chat_messages (
+    id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    message text NOT NULL,
+    response text NOT NULL,
+    context text,
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
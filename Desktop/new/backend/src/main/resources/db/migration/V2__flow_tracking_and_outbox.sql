@@ -0,0 +1,112 @@
+-- Status tracking, outbox/activity log, flow aggregates and project archiving. IF NOT EXISTS
+-- because a database that already ran these features under ddl-auto=update may have some of them.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS status_changed_at timestamp(6);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS started_at timestamp(6);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS completed_at timestamp(6);
+
+-- Best-effort history for existing rows; exact transition times were never recorded
+UPDATE tasks SET status_changed_at = COALESCE(updated_at, created_at) WHERE status_changed_at IS NULL;
+UPDATE tasks SET started_at = COALESCE(updated_at, created_at)
+    WHERE started_at IS NULL AND status IN ('IN_PROGRESS', 'IN_REVIEW', 'BLOCKED');
+UPDATE tasks SET completed_at = COALESCE(updated_at, created_at) WHERE completed_at IS NULL AND status = 'DONE';
+
+CREATE TABLE IF NOT EXISTS archived_tasks (
+    id uuid NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    status varchar(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    priority varchar(255) NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'CRITICAL')),
+    project_id uuid,
+    assignee_id uuid,
+    deadline timestamp(6),
+    estimate_hours integer,
+    labels text,
+    checklist text,
+    status_changed_at timestamp(6),
+    started_at timestamp(6),
+    completed_at timestamp(6),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    archived_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_archived_tasks_project ON archived_tasks (project_id);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id uuid NOT NULL,
+    aggregate_type varchar(255) NOT NULL,
+    aggregate_id uuid NOT NULL,
+    event_type varchar(255) NOT NULL,
+    actor_id uuid,
+    payload text,
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_created_at ON outbox_events (created_at);
+
+CREATE TABLE IF NOT EXISTS activity_log (
+    id uuid NOT NULL,
+    aggregate_type varchar(255) NOT NULL,
+    aggregate_id uuid NOT NULL,
+    event_type varchar(255) NOT NULL,
+    actor_id uuid,
+    payload text,
+    occurred_at timestamp(6) NOT NULL,
+    recorded_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_activity_log_aggregate ON activity_log (aggregate_type, aggregate_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_activity_log_actor ON activity_log (actor_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_activity_log_occurred_at ON activity_log (occurred_at);
+
+CREATE TABLE IF NOT EXISTS task_status_transitions (
+    id uuid NOT NULL,
+    task_id uuid NOT NULL,
+    project_id uuid,
+    from_status varchar(255) CHECK (from_status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    to_status varchar(255) NOT NULL CHECK (to_status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    transitioned_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_task_status_transitions_task ON task_status_transitions (task_id, transitioned_at);
+CREATE INDEX IF NOT EXISTS idx_task_status_transitions_project ON task_status_transitions (project_id);
+
+CREATE TABLE IF NOT EXISTS project_status_totals (
+    id uuid NOT NULL,
+    project_id uuid NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    task_count bigint NOT NULL,
+    estimate_hours bigint NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_status_totals UNIQUE (project_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS project_flow_histograms (
+    id uuid NOT NULL,
+    project_id uuid NOT NULL,
+    metric varchar(255) NOT NULL CHECK (metric IN ('LEAD_TIME', 'CYCLE_TIME', 'BLOCKED_TIME')),
+    bucket integer NOT NULL,
+    sample_count bigint NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_flow_histograms UNIQUE (project_id, metric, bucket)
+);
+
+CREATE TABLE IF NOT EXISTS project_weekly_throughput (
+    id uuid NOT NULL,
+    project_id uuid NOT NULL,
+    week_start date NOT NULL,
+    completed_count bigint NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_weekly_throughput UNIQUE (project_id, week_start)
+);
+
+CREATE TABLE IF NOT EXISTS project_burndown_snapshots (
+    id uuid NOT NULL,
+    project_id uuid NOT NULL,
+    snapshot_date date NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    task_count bigint NOT NULL,
+    estimate_hours bigint NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_burndown_snapshots UNIQUE (project_id, snapshot_date, status)
+);
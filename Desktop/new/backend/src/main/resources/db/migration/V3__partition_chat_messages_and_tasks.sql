@@ -0,0 +1,85 @@
+-- chat_messages: monthly range partitions on created_at. Old months are dropped as whole
+-- partitions by PartitionMaintenanceService instead of row-by-row deletes.
+ALTER TABLE chat_messages RENAME TO chat_messages_legacy;
+ALTER TABLE chat_messages_legacy RENAME CONSTRAINT chat_messages_pkey TO chat_messages_legacy_pkey;
+
+CREATE TABLE chat_messages (
+    id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    message text NOT NULL,
+    response text NOT NULL,
+    context text,
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_chat_messages_user_created ON chat_messages (user_id, created_at DESC);
+
+-- Safety net only: the maintenance job keeps monthly partitions created ahead of time
+CREATE TABLE chat_messages_default PARTITION OF chat_messages DEFAULT;
+
+DO $$
+DECLARE
+    month_start date;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+            date_trunc('month', COALESCE((SELECT MIN(created_at) FROM chat_messages_legacy), now())),
+            date_trunc('month', now()) + interval '3 months',
+            interval '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+                       'chat_messages_' || to_char(month_start, 'YYYY_MM'),
+                       month_start,
+                       (month_start + interval '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO chat_messages (id, user_id, message, response, context, created_at)
+SELECT id, user_id, message, response, context, created_at FROM chat_messages_legacy;
+
+DROP TABLE chat_messages_legacy;
+
+-- tasks: hot/cold split by status. Open work stays in a small partition with small indexes;
+-- UPDATEs that close or reopen a task move the row between partitions automatically.
+-- Trade-off: a primary key on a partitioned table must include the partition key, so the database
+-- now enforces only (id, status) and the same id could exist once per partition. Nothing relies on
+-- the database for that any more: new ids come from the application's UUIDv7 generator (entity
+-- inserts and imports), and restores skip archived rows whose id is already live.
+ALTER TABLE tasks RENAME TO tasks_legacy;
+ALTER TABLE tasks_legacy RENAME CONSTRAINT tasks_pkey TO tasks_legacy_pkey;
+
+CREATE TABLE tasks (
+    id uuid NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    status varchar(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED', 'DONE', 'CANCELLED')),
+    priority varchar(255) NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'CRITICAL')),
+    project_id uuid,
+    assignee_id uuid,
+    deadline timestamp(6),
+    estimate_hours integer,
+    labels text,
+    checklist text,
+    status_changed_at timestamp(6),
+    started_at timestamp(6),
+    completed_at timestamp(6),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id, status)
+) PARTITION BY LIST (status);
+
+CREATE TABLE tasks_open PARTITION OF tasks FOR VALUES IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'BLOCKED');
+CREATE TABLE tasks_closed PARTITION OF tasks FOR VALUES IN ('DONE', 'CANCELLED');
+
+CREATE INDEX idx_tasks_project ON tasks (project_id);
+CREATE INDEX idx_tasks_assignee ON tasks (assignee_id);
+CREATE INDEX idx_tasks_closed_completed_at ON tasks_closed (completed_at);
+
+INSERT INTO tasks (id, title, description, status, priority, project_id, assignee_id, deadline, estimate_hours,
+                   labels, checklist, status_changed_at, started_at, completed_at, created_at, updated_at)
+SELECT id, title, description, status, priority, project_id, assignee_id, deadline, estimate_hours,
+       labels, checklist, status_changed_at, started_at, completed_at, created_at, updated_at
+FROM tasks_legacy;
+
+DROP TABLE tasks_legacy;
@@ -0,0 +1,10 @@
+CREATE TABLE idempotency_keys (
+    idempotency_key varchar(320) NOT NULL,
+    fingerprint varchar(64) NOT NULL,
+    response_body text NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,4 @@
+-- Chatbot context is now built server-side; new messages keep only a hash of what was sent upstream
+-- instead of the full client-supplied blob. The old context column stays (nullable, no longer
+-- written) so existing history survives; dropping it is left to a separate, explicit migration.
+ALTER TABLE chat_messages ADD COLUMN context_hash varchar(64);
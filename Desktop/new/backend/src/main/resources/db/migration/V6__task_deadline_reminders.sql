@@ -0,0 +1,8 @@
+-- Deadline reminders: reminder_sent_at is claimed with a conditional UPDATE so each deadline is
+-- reminded once, and reset when the deadline moves.
+ALTER TABLE tasks ADD COLUMN reminder_sent_at timestamp(6);
+ALTER TABLE archived_tasks ADD COLUMN reminder_sent_at timestamp(6);
+
+-- Only open tasks with a pending reminder are ever scanned when loading the scheduler
+CREATE INDEX idx_tasks_open_pending_reminder ON tasks_open (deadline)
+    WHERE deadline IS NOT NULL AND reminder_sent_at IS NULL;
@@ -0,0 +1,10 @@
+-- Kanban ordering: each task carries a base-62 fractional key within its (project, status) column,
+-- so a drag-and-drop move rewrites only the moved row. "C" collation makes the database compare
+-- keys byte-wise, the same way the application generates them.
+ALTER TABLE tasks ADD COLUMN position varchar(255) COLLATE "C";
+ALTER TABLE archived_tasks ADD COLUMN position varchar(255) COLLATE "C";
+
+-- Serves both column rendering and the MAX(position) lookup when appending a card
+CREATE INDEX idx_tasks_board ON tasks (project_id, status, position);
+
+-- Existing tasks are given keys by the application's startup sweep, in creation order
@@ -0,0 +1,9 @@
+-- One row per completed task that earned points: who got them and how many. Reopening a task
+-- removes its row and takes back exactly that award, whatever its assignee or priority is by then.
+CREATE TABLE task_point_awards (
+    task_id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    points integer NOT NULL,
+    awarded_at timestamp(6) NOT NULL,
+    PRIMARY KEY (task_id)
+);
@@ -0,0 +1,10 @@
+-- Awards become per-task state so replicas draining the outbox in parallel cannot apply a task's
+-- completion and reopen out of order. A reopen keeps the row as a tombstone (revoked_at set, with no
+-- user when nothing had been awarded yet) and every row remembers when the last event it applied
+-- occurred, so an older event that is drained late is ignored.
+ALTER TABLE task_point_awards ADD COLUMN revoked_at timestamp(6);
+ALTER TABLE task_point_awards ADD COLUMN last_event_at timestamp(6);
+UPDATE task_point_awards SET last_event_at = awarded_at;
+ALTER TABLE task_point_awards ALTER COLUMN last_event_at SET NOT NULL;
+ALTER TABLE task_point_awards ALTER COLUMN user_id DROP NOT NULL;
+ALTER TABLE task_point_awards ALTER COLUMN awarded_at DROP NOT NULL;
@@ -6,8 +6,8 @@
 -- Enable UUID extension
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
--- Users table is created by JPA, but we can add initial admin user
--- The application will create tables automatically via JPA
+-- Tables are created by the backend's Flyway migrations (backend/src/main/resources/db/migration)
+-- Run the seed below once the backend has started and migrated the schema
 
 -- Optional: Create a default admin user (password: admin123)
 -- Password hash for 'admin123' using BCrypt
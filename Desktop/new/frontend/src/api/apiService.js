@@ -171,11 +171,9 @@ export const functionsAPI = {
 
 // Chatbot API
 export const chatbotAPI = {
-  sendMessage: async (message, context = {}) => {
-    const response = await apiClient.post('/chatbot/message', {
-      message,
-      context,
-    });
+  // Context is assembled by the server from the user's tasks and projects
+  sendMessage: async (message) => {
+    const response = await apiClient.post('/chatbot/message', { message });
     return formatResponse(response);
   },
 